@@ -1,8 +1,13 @@
 package org.upstarters.course.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,7 +21,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.upstarters.course.dto.BulkUpsertReportDto;
+import org.upstarters.course.dto.CapacitySyncReportDto;
 import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.CoursePageDto;
+import org.upstarters.course.dto.DepartmentSummaryDto;
 import org.upstarters.course.dto.ExternalStudentDTO;
 import org.upstarters.course.dto.FullCourseDto;
 import org.upstarters.course.service.CourseService;
@@ -42,6 +52,38 @@ public class CourseController {
                 .status(HttpStatus.CREATED)
                 .body(addCourseDto);
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulkUpsert")
+    public ResponseEntity<BulkUpsertReportDto> bulkUpsertCourses(@RequestBody List<CourseDto> courseDtos) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.bulkUpsertCourses(courseDtos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @PostMapping("/getTitlesByIds")
+    public ResponseEntity<Map<Long, String>> getTitlesByIds(@RequestBody List<Long> courseIds) {
+        Map<Long, String> titles = courseService.getCourseTitlesByIds(courseIds);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(titles);
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @PostMapping("/getIdsByTitles")
+    public ResponseEntity<Map<String, Long>> getIdsByTitles(@RequestBody List<String> titles) {
+        Map<String, Long> ids = courseService.getCourseIdsByTitles(titles);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ids);
+    }
     //endregion
 
     //region Get Endpoints
@@ -55,6 +97,34 @@ public class CourseController {
                 .body(courseDtos);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/getAllCourses/page")
+    public ResponseEntity<CoursePageDto> getCoursesPage(
+            @PageableDefault(size = 50) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.getCoursesPage(pageable, slice));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/getAllCourses/keyset")
+    public ResponseEntity<CoursePageDto> getCoursesAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.getCoursesAfter(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
     @GetMapping("/getCourseById/{courseId}")
     public ResponseEntity<CourseDto> getCourseById(@PathVariable Long courseId) {
@@ -65,22 +135,57 @@ public class CourseController {
 
     @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
     @GetMapping("/getCoursesByDepartment/{department}")
-    public ResponseEntity<Iterable<CourseDto>> getCoursesByDepartment(@PathVariable String department) {
-        Iterable<CourseDto> courseDtos = courseService.getCoursesByDepartment(department);
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(courseDtos);
+    public ResponseEntity<Iterable<CourseDto>> getCoursesByDepartment(@PathVariable String department,
+                                                                      WebRequest request) {
+        return withCatalogETag(request, () -> courseService.getCoursesByDepartment(department));
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
     @GetMapping("getAllAvailableCourses")
-    public ResponseEntity<Iterable<CourseDto>> getAllAvailableCourses() {
-        Iterable<CourseDto> availableCoursesDtos = courseService.getCoursesAvailable();
+    public ResponseEntity<Iterable<CourseDto>> getAllAvailableCourses(WebRequest request) {
+        return withCatalogETag(request, courseService::getCoursesAvailable);
+    }
 
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(availableCoursesDtos);
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @GetMapping("/getAllAvailableCourses/page")
+    public ResponseEntity<CoursePageDto> getAvailableCoursesPage(
+            @PageableDefault(size = 50) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.getAvailableCoursesPage(pageable, slice));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @GetMapping("/getAllAvailableCourses/keyset")
+    public ResponseEntity<CoursePageDto> getAvailableCoursesAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.getAvailableCoursesAfter(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @GetMapping("/getCoursesSortedByCapacity/keyset")
+    public ResponseEntity<CoursePageDto> getCoursesSortedByCapacityAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.getCoursesSortedByCapacityAfter(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
@@ -93,6 +198,26 @@ public class CourseController {
                 .body(courseDtos);
     }
 
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @GetMapping("/departments")
+    public ResponseEntity<List<DepartmentSummaryDto>> getDepartmentSummaries(WebRequest request) {
+        return withCatalogETag(request, courseService::getDepartmentSummaries);
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @GetMapping("/search")
+    public ResponseEntity<List<CourseDto>> searchCourses(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.searchCourses(q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
     @GetMapping("/getByTitle/{title}")
     public ResponseEntity<FullCourseDto> getCourseByTitle(@PathVariable String title) {
@@ -156,6 +281,40 @@ public class CourseController {
         }
     }
 
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @PatchMapping("/reserveSeat/{title}")
+    public ResponseEntity<String> reserveSeat(@PathVariable String title) {
+        try {
+            if (courseService.reserveSeat(title)) {
+                return ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body("Seat reserved successfully.");
+            }
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body("No seats left.");
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body("Course not found.");
+        }
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    @PatchMapping("/releaseSeat/{title}")
+    public ResponseEntity<String> releaseSeat(@PathVariable String title) {
+        try {
+            courseService.releaseSeat(title);
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body("Seat released successfully.");
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body("Course not found.");
+        }
+    }
+
     @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
     @PutMapping("/syncCapacityWithStudents/{title}")
     public ResponseEntity<String> syncCapacityWithStudents(
@@ -175,6 +334,18 @@ public class CourseController {
         }
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/syncCapacityWithStudents")
+    public ResponseEntity<CapacitySyncReportDto> syncAllCapacitiesWithStudents() {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(courseService.syncAllCourseCapacitiesWithStudentCounts());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     //endregion
 
     //region Delete Endpoints
@@ -195,6 +366,27 @@ public class CourseController {
     }
     //endregion
 
+    //region Helpers
+    /**
+     * Answers a catalog read with a strong ETag derived from the catalog version.
+     * <p>
+     * The version is read before the body. When it matches {@code If-None-Match}, a
+     * {@code 304 Not Modified} is returned without querying or serializing the courses.
+     */
+    private <T> ResponseEntity<T> withCatalogETag(WebRequest request, Supplier<? extends T> body) {
+        String eTag = "\"" + courseService.getCatalogVersion() + "\"";
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+        }
 
-
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .eTag(eTag)
+                .body(body.get());
+    }
+    //endregion
 }
@@ -0,0 +1,70 @@
+package org.upstarters.course.dto;
+
+import java.util.List;
+
+public class BulkUpsertReportDto {
+
+    //region Fields
+    private int created;
+    private int updated;
+    private int unchanged;
+    private int rejected;
+    private List<BulkUpsertResultDto> results;
+    //endregion
+
+    //region Constructors
+    public BulkUpsertReportDto() {}
+
+    public BulkUpsertReportDto(int created, int updated, int unchanged, int rejected, List<BulkUpsertResultDto> results) {
+        this.created = created;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.rejected = rejected;
+        this.results = results;
+    }
+    //endregion
+
+    //region Getters and Setters
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BulkUpsertResultDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkUpsertResultDto> results) {
+        this.results = results;
+    }
+
+    //endregion
+}
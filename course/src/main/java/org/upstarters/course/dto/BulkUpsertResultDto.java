@@ -0,0 +1,65 @@
+package org.upstarters.course.dto;
+
+public class BulkUpsertResultDto {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        REJECTED
+    }
+
+    //region Fields
+    private String title;
+    private Outcome outcome;
+    private Long courseId;
+    private String message;
+    //endregion
+
+    //region Constructors
+    public BulkUpsertResultDto() {}
+
+    public BulkUpsertResultDto(String title, Outcome outcome, Long courseId, String message) {
+        this.title = title;
+        this.outcome = outcome;
+        this.courseId = courseId;
+        this.message = message;
+    }
+    //endregion
+
+    //region Getters and Setters
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    //endregion
+}
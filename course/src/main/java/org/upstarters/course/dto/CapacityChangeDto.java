@@ -0,0 +1,56 @@
+package org.upstarters.course.dto;
+
+public class CapacityChangeDto {
+
+    //region Fields
+    private String title;
+    private String department;
+    private Integer previousCapacity;
+    private Integer newCapacity;
+    //endregion
+
+    //region Constructors
+    public CapacityChangeDto() {}
+
+    public CapacityChangeDto(String title, String department, Integer previousCapacity, Integer newCapacity) {
+        this.title = title;
+        this.department = department;
+        this.previousCapacity = previousCapacity;
+        this.newCapacity = newCapacity;
+    }
+    //endregion
+
+    //region Getters and Setters
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDepartment() { return department; }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public Integer getPreviousCapacity() {
+        return previousCapacity;
+    }
+
+    public void setPreviousCapacity(Integer previousCapacity) {
+        this.previousCapacity = previousCapacity;
+    }
+
+    public Integer getNewCapacity() {
+        return newCapacity;
+    }
+
+    public void setNewCapacity(Integer newCapacity) {
+        this.newCapacity = newCapacity;
+    }
+
+    //endregion
+}
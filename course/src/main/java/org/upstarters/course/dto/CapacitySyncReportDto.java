@@ -0,0 +1,50 @@
+package org.upstarters.course.dto;
+
+import java.util.List;
+
+public class CapacitySyncReportDto {
+
+    //region Fields
+    private int coursesChecked;
+    private int coursesChanged;
+    private List<CapacityChangeDto> changes;
+    //endregion
+
+    //region Constructors
+    public CapacitySyncReportDto() {}
+
+    public CapacitySyncReportDto(int coursesChecked, int coursesChanged, List<CapacityChangeDto> changes) {
+        this.coursesChecked = coursesChecked;
+        this.coursesChanged = coursesChanged;
+        this.changes = changes;
+    }
+    //endregion
+
+    //region Getters and Setters
+
+    public int getCoursesChecked() {
+        return coursesChecked;
+    }
+
+    public void setCoursesChecked(int coursesChecked) {
+        this.coursesChecked = coursesChecked;
+    }
+
+    public int getCoursesChanged() {
+        return coursesChanged;
+    }
+
+    public void setCoursesChanged(int coursesChanged) {
+        this.coursesChanged = coursesChanged;
+    }
+
+    public List<CapacityChangeDto> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<CapacityChangeDto> changes) {
+        this.changes = changes;
+    }
+
+    //endregion
+}
@@ -0,0 +1,91 @@
+package org.upstarters.course.dto;
+
+import java.util.List;
+
+public class CoursePageDto {
+
+    //region Fields
+    private List<CourseDto> content;
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean hasNext;
+    private String next;
+    //endregion
+
+    //region Constructors
+    public CoursePageDto() {}
+
+    public CoursePageDto(List<CourseDto> content, Integer page, Integer size, Long totalElements,
+                         Integer totalPages, boolean hasNext, String next) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.hasNext = hasNext;
+        this.next = next;
+    }
+    //endregion
+
+    //region Getters and Setters
+
+    public List<CourseDto> getContent() {
+        return content;
+    }
+
+    public void setContent(List<CourseDto> content) {
+        this.content = content;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public Integer getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(Integer totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    //endregion
+}
@@ -0,0 +1,58 @@
+package org.upstarters.course.dto;
+
+public class DepartmentSummaryDto {
+
+    //region Fields
+    private String department;
+    private Long courseCount;
+    private Long totalCapacity;
+    private Long availableSeats;
+    //endregion
+
+    //region Constructors
+    public DepartmentSummaryDto() {}
+
+    public DepartmentSummaryDto(String department, Long courseCount, Long totalCapacity, Long availableSeats) {
+        this.department = department;
+        this.courseCount = courseCount;
+        this.totalCapacity = totalCapacity;
+        this.availableSeats = availableSeats;
+    }
+    //endregion
+
+    //region Getters and Setters
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public Long getCourseCount() {
+        return courseCount;
+    }
+
+    public void setCourseCount(Long courseCount) {
+        this.courseCount = courseCount;
+    }
+
+    public Long getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    public void setTotalCapacity(Long totalCapacity) {
+        this.totalCapacity = totalCapacity;
+    }
+
+    public Long getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public void setAvailableSeats(Long availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+
+    //endregion
+}
@@ -7,14 +7,14 @@ import org.upstarters.course.dto.FullCourseDto;
 import java.util.Optional;
 
 @Entity
-@Table (name = "courses")
+@Table (name = "courses", indexes = @Index(name = "idx_courses_department", columnList = "department"))
 public class Course {
 
     //region Fields
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column (name = "id")
-    private Long course_id;
+    private Long courseId;
 
     @Column (name = "title")
     private String title;
@@ -35,8 +35,8 @@ public class Course {
         this.capacity = capacity;
     }
 
-    public Course(Long course_id, String title, String department, Integer capacity) {
-        this.course_id = course_id;
+    public Course(Long courseId, String title, String department, Integer capacity) {
+        this.courseId = courseId;
         this.title = title;
         this.department = department;
         this.capacity = capacity;
@@ -47,11 +47,11 @@ public class Course {
     //region Getters and Setters
 
     public Long getCourseId() {
-        return course_id;
+        return courseId;
     }
 
-    public void setCourseId(Long course_id) {
-        this.course_id = course_id;
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
     }
 
     public String getTitle() {
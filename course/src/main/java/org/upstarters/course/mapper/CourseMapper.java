@@ -3,6 +3,7 @@ package org.upstarters.course.mapper;
 import org.upstarters.course.dto.CourseDto;
 import org.upstarters.course.dto.FullCourseDto;
 import org.upstarters.course.entity.Course;
+import org.upstarters.course.repository.CourseView;
 
 public class CourseMapper {
 
@@ -14,6 +15,14 @@ public class CourseMapper {
         );
     }
 
+    public static CourseDto toDto(CourseView courseView) {
+        return new CourseDto(
+                courseView.getTitle(),
+                courseView.getDepartment(),
+                courseView.getCapacity()
+        );
+    }
+
     public static Course toEntity(CourseDto courseDto) {
         return new Course(
                 courseDto.getTitle(),
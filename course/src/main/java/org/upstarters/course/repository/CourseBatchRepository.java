@@ -0,0 +1,32 @@
+package org.upstarters.course.repository;
+
+import org.upstarters.course.entity.Course;
+
+import java.util.List;
+
+/**
+ * Batched JDBC writes used by bulk catalog loads.
+ * <p>
+ * Course IDs are generated by an identity column, which keeps Hibernate from batching inserts:
+ * it has to execute every insert on its own to read back the ID. These writes bypass the
+ * persistence context and send the statements in JDBC batches instead, inside the caller's
+ * transaction.
+ *
+ * @see CourseBatchRepositoryImpl
+ */
+public interface CourseBatchRepository {
+
+    /**
+     * Inserts the courses in JDBC batches and sets the generated ID on each of them.
+     *
+     * @param courses the new courses, without ID
+     */
+    void insertAllInBatches(List<Course> courses);
+
+    /**
+     * Writes the department and capacity of existing courses in JDBC batches.
+     *
+     * @param courses the courses to update, identified by ID
+     */
+    void updateAllInBatches(List<Course> courses);
+}
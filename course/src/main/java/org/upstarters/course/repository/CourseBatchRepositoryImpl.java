@@ -0,0 +1,93 @@
+package org.upstarters.course.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.upstarters.course.entity.Course;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+public class CourseBatchRepositoryImpl implements CourseBatchRepository {
+
+    static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT_COURSE = "insert into courses (title, department, capacity) values (?, ?, ?)";
+    private static final String UPDATE_COURSE = "update courses set department = ?, capacity = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CourseBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAllInBatches(List<Course> courses) {
+        for (int from = 0; from < courses.size(); from += BATCH_SIZE) {
+            List<Course> batch = courses.subList(from, Math.min(from + BATCH_SIZE, courses.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_COURSE, new String[]{"id"}),
+                    new CourseBatchSetter(batch) {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            Course course = batch.get(i);
+                            statement.setString(1, course.getTitle());
+                            statement.setString(2, course.getDepartment());
+                            setCapacity(statement, 3, course.getCapacity());
+                        }
+                    },
+                    keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < batch.size(); i++) {
+                Object id = keys.get(i).values().iterator().next();
+                batch.get(i).setCourseId(((Number) id).longValue());
+            }
+        }
+    }
+
+    @Override
+    public void updateAllInBatches(List<Course> courses) {
+        for (int from = 0; from < courses.size(); from += BATCH_SIZE) {
+            List<Course> batch = courses.subList(from, Math.min(from + BATCH_SIZE, courses.size()));
+
+            jdbcTemplate.batchUpdate(UPDATE_COURSE, new CourseBatchSetter(batch) {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    Course course = batch.get(i);
+                    statement.setString(1, course.getDepartment());
+                    setCapacity(statement, 2, course.getCapacity());
+                    statement.setLong(3, course.getCourseId());
+                }
+            });
+        }
+    }
+
+    private abstract static class CourseBatchSetter implements BatchPreparedStatementSetter {
+
+        private final List<Course> batch;
+
+        CourseBatchSetter(List<Course> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batch.size();
+        }
+
+        static void setCapacity(PreparedStatement statement, int index, Integer capacity) throws SQLException {
+            if (capacity == null) {
+                statement.setNull(index, Types.INTEGER);
+            } else {
+                statement.setInt(index, capacity);
+            }
+        }
+    }
+}
@@ -1,22 +1,106 @@
 package org.upstarters.course.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.DepartmentSummaryDto;
 import org.upstarters.course.dto.FullCourseDto;
 import org.upstarters.course.entity.Course;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseBatchRepository {
     Course findByTitle(String title);
-    List<Course> findCourseByDepartment(String department);
 
-    @Query ("select c from Course c where c.capacity > 0")
-    List<Course> findCourseAvailable();
+    @Query("select new org.upstarters.course.dto.CourseDto(c.title, c.department, c.capacity) from Course c")
+    List<CourseDto> findAllCourseDtos();
 
-    List<Course> findAllByOrderByCapacityAsc();
+    @Query("""
+            select new org.upstarters.course.dto.CourseDto(c.title, c.department, c.capacity)
+            from Course c where c.department = :department order by c.courseId
+            """)
+    List<CourseDto> findCourseDtosByDepartment(@Param("department") String department);
+
+    @Query("""
+            select new org.upstarters.course.dto.DepartmentSummaryDto(
+                c.department,
+                count(c),
+                coalesce(sum(c.capacity), 0L),
+                coalesce(sum(case when c.capacity > 0 then c.capacity else 0 end), 0L))
+            from Course c
+            group by c.department
+            order by c.department
+            """)
+    List<DepartmentSummaryDto> summarizeDepartments();
+
+    @Query("""
+            select new org.upstarters.course.dto.CourseDto(c.title, c.department, c.capacity)
+            from Course c where c.capacity > 0 order by c.courseId
+            """)
+    List<CourseDto> findAvailableCourseDtos();
+
+    @Query("""
+            select new org.upstarters.course.dto.CourseDto(c.title, c.department, c.capacity)
+            from Course c order by c.capacity, c.courseId
+            """)
+    List<CourseDto> findCourseDtosOrderByCapacity();
+
+    List<CourseView> findAllByCourseIdIn(Collection<Long> ids);
+
+    List<CourseView> findAllByTitleIn(Collection<String> titles);
+
+    Page<CourseView> findAllProjectedBy(Pageable pageable);
+
+    List<CourseView> findAllProjectedByOrderByCourseId();
+
+    Slice<CourseView> findSliceBy(Pageable pageable);
+
+    Page<CourseView> findByCapacityGreaterThan(Integer capacity, Pageable pageable);
+
+    Slice<CourseView> findSliceByCapacityGreaterThan(Integer capacity, Pageable pageable);
+
+    @Query("""
+            select c.courseId as courseId, c.title as title, c.department as department, c.capacity as capacity
+            from Course c where c.courseId > :afterId order by c.courseId
+            """)
+    List<CourseView> findAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select c.courseId as courseId, c.title as title, c.department as department, c.capacity as capacity
+            from Course c where c.capacity > 0 and c.courseId > :afterId order by c.courseId
+            """)
+    List<CourseView> findAvailableAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select c.courseId as courseId, c.title as title, c.department as department, c.capacity as capacity
+            from Course c
+            where c.capacity > :afterCapacity or (c.capacity = :afterCapacity and c.courseId > :afterId)
+            order by c.capacity, c.courseId
+            """)
+    List<CourseView> findAfterCapacity(@Param("afterCapacity") Integer afterCapacity, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Course c set c.capacity = c.capacity - 1 where c.courseId = :id and c.capacity > 0")
+    int reserveSeat(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Course c set c.capacity = c.capacity + 1 where c.courseId = :id")
+    int releaseSeat(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Course c set c.capacity = :capacity where c.title = :title")
+    int updateCapacityByTitle(@Param("title") String title, @Param("capacity") Integer capacity);
 
 }
@@ -0,0 +1,17 @@
+package org.upstarters.course.repository;
+
+/**
+ * Read-only projection of a course row.
+ * <p>
+ * Queries returning this projection select only these columns and never create managed
+ * {@link org.upstarters.course.entity.Course} entities, so listings do not pay for
+ * persistence-context registration and dirty-checking snapshots.
+ *
+ * @author Petre Flaviu-Mihai
+ */
+public interface CourseView {
+    Long getCourseId();
+    String getTitle();
+    String getDepartment();
+    Integer getCapacity();
+}
@@ -0,0 +1,96 @@
+package org.upstarters.course.service;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Catalog-wide change counter backed by a database sequence.
+ * <p>
+ * Read endpoints derive their ETags from the current value of the sequence. Every course write
+ * advances it with {@code nextval} once its transaction has committed. Sequence increments are not
+ * transactional and take no row lock, so concurrent writes, seat reservations included, never wait
+ * for each other on the counter. Because the sequence only moves after the data is committed, a
+ * version is never paired with data that is not visible yet; a read racing with a commit can at
+ * worst send the new courses under the previous version, which the next bump invalidates.
+ *
+ * @author Petre Flaviu-Mihai
+ * @version 1.0
+ * @see CourseService#getCatalogVersion()
+ */
+@Component
+public class CatalogVersionSequence {
+
+    static final String SEQUENCE = "course_catalog_version_seq";
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersionSequence.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueQuery;
+
+    /**
+     * Creates the sequence if it does not exist yet and advances it once. A sequence that was
+     * never advanced reports the same {@code last_value} as after its first {@code nextval},
+     * so without this the first write after the sequence is created would not change the version.
+     *
+     * @param jdbcTemplate         the template used to read and advance the sequence
+     * @param entityManagerFactory provides the dialect-specific {@code nextval} statement
+     * @author Petre Flaviu-Mihai
+     */
+    @Autowired
+    public CatalogVersionSequence(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueQuery = dialect.getSequenceSupport().getSequenceNextValString(SEQUENCE);
+        jdbcTemplate.execute("create sequence if not exists " + SEQUENCE);
+        jdbcTemplate.queryForObject(nextValueQuery, Long.class);
+    }
+
+    /**
+     * Returns the last value handed out by the sequence.
+     *
+     * @return the current catalog version
+     * @author Petre Flaviu-Mihai
+     */
+    public long current() {
+        Long version = jdbcTemplate.queryForObject("select last_value from " + SEQUENCE, Long.class);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Advances the catalog version. Inside a transaction, the version is advanced once the
+     * transaction commits; a rolled back write leaves it unchanged.
+     *
+     * @author Petre Flaviu-Mihai
+     */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    advance();
+                }
+            });
+        } else {
+            advance();
+        }
+    }
+
+    private void advance() {
+        try {
+            jdbcTemplate.queryForObject(nextValueQuery, Long.class);
+        } catch (DataAccessException e) {
+            // The write is already committed; the ETags catch up with the next successful bump.
+            logger.warn("Could not advance the catalog version", e);
+        }
+    }
+}
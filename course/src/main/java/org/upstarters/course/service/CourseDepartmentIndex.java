@@ -0,0 +1,207 @@
+package org.upstarters.course.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.FullCourseDto;
+
+/**
+ * In-memory department to courses multimap serving the department listings.
+ * <p>
+ * The index is loaded on startup and patched in place by every course write: once the write commits,
+ * the changed courses are read back by primary key and moved to their current department. Listings
+ * read the index without locking. Patches of the same course are serialized, so the last patch applied
+ * always reflects the last committed write; patches of different courses run in parallel.
+ * <p>
+ * Every replica keeps its own index; the periodic rebuild bounds how long writes made on another
+ * replica stay invisible. A rebuild never takes a lock over the whole index and never overwrites a
+ * course patched after it started.
+ *
+ * @author Petre Flaviu-Mihai
+ * @version 1.0
+ * @see CourseService#getCoursesByDepartment(String)
+ */
+@Component
+public class CourseDepartmentIndex {
+
+    static final int LOCK_STRIPES = 64;
+
+    private final Map<Long, FullCourseDto> coursesById = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<Long, CourseDto>> coursesByDepartment = new ConcurrentHashMap<>();
+    private final Map<Long, Long> patchedAt = new ConcurrentHashMap<>();
+    private final AtomicLong ticks = new AtomicLong();
+    private final ReentrantLock[] locks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(stripe -> new ReentrantLock())
+            .toArray(ReentrantLock[]::new);
+
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returns the courses of a department, ordered by ID.
+     *
+     * @param department the department to list
+     * @return the courses of the department; empty if the department has no courses
+     * @author Petre Flaviu-Mihai
+     */
+    public List<CourseDto> getCourses(String department) {
+        if (department == null) {
+            return List.of();
+        }
+        ConcurrentSkipListMap<Long, CourseDto> courses = coursesByDepartment.get(department);
+        return courses == null ? List.of() : List.copyOf(courses.values());
+    }
+
+    /**
+     * Re-reads the given courses and moves them to their current department, or removes the ones
+     * that no longer exist. Inside a transaction, the courses are re-read once the transaction commits.
+     *
+     * @param ids    the IDs of the changed courses
+     * @param loader reads the courses with the given IDs that still exist
+     * @author Petre Flaviu-Mihai
+     */
+    public void refresh(Collection<Long> ids, Function<Collection<Long>, List<FullCourseDto>> loader) {
+        Set<Long> changed = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (changed.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> patch(changed, loader));
+    }
+
+    /**
+     * Replaces the content of the index with the courses returned by the loader.
+     * <p>
+     * The index is updated course by course, so listings keep being answered while it is rebuilt.
+     * Courses patched by a write after the rebuild started keep their patched state.
+     *
+     * @param loader reads every course
+     * @author Petre Flaviu-Mihai
+     */
+    public void rebuild(Supplier<List<FullCourseDto>> loader) {
+        long started = ticks.incrementAndGet();
+        Map<Long, FullCourseDto> courses = loader.get().stream()
+                .collect(Collectors.toMap(FullCourseDto::getId, Function.identity()));
+
+        for (FullCourseDto course : courses.values()) {
+            withLock(course.getId(), () -> {
+                if (!patchedSince(course.getId(), started)) {
+                    put(course);
+                }
+            });
+        }
+        for (Long id : Set.copyOf(coursesById.keySet())) {
+            if (!courses.containsKey(id)) {
+                withLock(id, () -> {
+                    if (!patchedSince(id, started)) {
+                        remove(id);
+                    }
+                });
+            }
+        }
+
+        patchedAt.values().removeIf(tick -> tick <= started);
+        loaded = true;
+    }
+
+    private void patch(Set<Long> ids, Function<Collection<Long>, List<FullCourseDto>> loader) {
+        int[] stripes = ids.stream().mapToInt(CourseDepartmentIndex::stripe).distinct().sorted().toArray();
+        for (int stripe : stripes) {
+            locks[stripe].lock();
+        }
+        try {
+            long tick = ticks.incrementAndGet();
+            Set<Long> missing = new HashSet<>(ids);
+            for (FullCourseDto course : loader.apply(ids)) {
+                put(course);
+                missing.remove(course.getId());
+            }
+            missing.forEach(this::remove);
+            ids.forEach(id -> patchedAt.put(id, tick));
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    private boolean patchedSince(Long id, long tick) {
+        return patchedAt.getOrDefault(id, 0L) > tick;
+    }
+
+    private void put(FullCourseDto course) {
+        FullCourseDto previous = coursesById.put(course.getId(), course);
+        if (previous != null && !Objects.equals(previous.getDepartment(), course.getDepartment())) {
+            removeFromDepartment(previous);
+        }
+        if (course.getDepartment() != null) {
+            coursesByDepartment.compute(course.getDepartment(), (department, courses) -> {
+                ConcurrentSkipListMap<Long, CourseDto> members = courses != null ? courses : new ConcurrentSkipListMap<>();
+                members.put(course.getId(), new CourseDto(course.getTitle(), course.getDepartment(), course.getCapacity()));
+                return members;
+            });
+        }
+    }
+
+    private void remove(Long id) {
+        FullCourseDto previous = coursesById.remove(id);
+        if (previous != null) {
+            removeFromDepartment(previous);
+        }
+    }
+
+    private void removeFromDepartment(FullCourseDto course) {
+        if (course.getDepartment() == null) {
+            return;
+        }
+        coursesByDepartment.computeIfPresent(course.getDepartment(), (department, courses) -> {
+            courses.remove(course.getId());
+            return courses.isEmpty() ? null : courses;
+        });
+    }
+
+    private void withLock(Long id, Runnable action) {
+        ReentrantLock lock = locks[stripe(id)];
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(id.hashCode(), LOCK_STRIPES);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
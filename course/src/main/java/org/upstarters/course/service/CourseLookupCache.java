@@ -0,0 +1,174 @@
+package org.upstarters.course.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.upstarters.course.dto.FullCourseDto;
+import org.upstarters.course.entity.Course;
+import org.upstarters.course.mapper.CourseMapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-memory read-through cache for single-course lookups.
+ * <p>
+ * The enrollment and student services resolve courses by title and by ID on almost every
+ * request. This cache answers those lookups from memory and only reaches the database on a miss.
+ * Entries are kept by title and by ID, expire after a configurable time to live and are evicted
+ * by Caffeine's size-based policy once the configured maximum size is reached. Hit and miss
+ * counters are published as {@code cache.*} metrics.
+ * <p>
+ * Writes evict the affected course. Eviction is repeated after the surrounding transaction commits,
+ * so a concurrent read cannot put the old row back into the cache. Every replica keeps its own cache,
+ * which means the time to live bounds how long another replica can serve a stale entry.
+ *
+ * @author Petre Flaviu-Mihai
+ * @version 1.0
+ * @see CourseService
+ */
+@Component
+public class CourseLookupCache {
+
+    static final String BY_TITLE = "coursesByTitle";
+    static final String BY_ID = "coursesById";
+
+    private final Cache<String, FullCourseDto> coursesByTitle;
+    private final Cache<Long, FullCourseDto> coursesById;
+
+    /**
+     * Constructs the cache with the configured expiry and size bounds and registers
+     * its statistics with the meter registry.
+     *
+     * @param ttl           how long a loaded course is kept
+     * @param maximumSize   the maximum number of entries kept on each side of the cache
+     * @param meterRegistry the registry the cache statistics are published to
+     * @author Petre Flaviu-Mihai
+     */
+    @Autowired
+    public CourseLookupCache(@Value("${course.lookup-cache.ttl:5m}") Duration ttl,
+                             @Value("${course.lookup-cache.maximum-size:10000}") long maximumSize,
+                             MeterRegistry meterRegistry) {
+        this.coursesByTitle = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).recordStats().<String, FullCourseDto>build(),
+                BY_TITLE);
+        this.coursesById = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).recordStats().<Long, FullCourseDto>build(),
+                BY_ID);
+    }
+
+    /**
+     * Returns the course with the given title, loading it with the given function on a miss.
+     * <p>
+     * Titles that do not match any course are not cached.
+     *
+     * @param title  the exact title of the course
+     * @param loader loads the course from the database; returns {@code null} if it does not exist
+     * @return an {@link Optional} containing a copy of the cached course, or an empty Optional if none exists
+     * @author Petre Flaviu-Mihai
+     */
+    public Optional<FullCourseDto> getByTitle(String title, Function<String, Course> loader) {
+        if (title == null) {
+            return Optional.empty();
+        }
+
+        FullCourseDto course = coursesByTitle.get(title, key -> {
+            Course loaded = loader.apply(key);
+            if (loaded == null) {
+                return null;
+            }
+            FullCourseDto snapshot = CourseMapper.toFullDto(loaded);
+            if (snapshot.getId() != null) {
+                coursesById.put(snapshot.getId(), snapshot);
+            }
+            return snapshot;
+        });
+
+        return Optional.ofNullable(course).map(CourseLookupCache::copy);
+    }
+
+    /**
+     * Returns the course with the given ID, loading it with the given function on a miss.
+     * <p>
+     * IDs that do not match any course are not cached.
+     *
+     * @param id     the unique identifier of the course
+     * @param loader loads the course from the database
+     * @return an {@link Optional} containing a copy of the cached course, or an empty Optional if none exists
+     * @author Petre Flaviu-Mihai
+     */
+    public Optional<FullCourseDto> getById(Long id, Function<Long, Optional<Course>> loader) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        FullCourseDto course = coursesById.get(id, key -> loader.apply(key)
+                .map(loaded -> {
+                    FullCourseDto snapshot = CourseMapper.toFullDto(loaded);
+                    if (snapshot.getTitle() != null) {
+                        coursesByTitle.put(snapshot.getTitle(), snapshot);
+                    }
+                    return snapshot;
+                })
+                .orElse(null));
+
+        return Optional.ofNullable(course).map(CourseLookupCache::copy);
+    }
+
+    /**
+     * Removes a course from both sides of the cache.
+     * <p>
+     * When called inside a transaction, the course is evicted again after the transaction commits.
+     * If only the title is known, the ID is taken from the cached entry for that title.
+     *
+     * @param id    the unique identifier of the course; may be {@code null}
+     * @param title the title of the course; may be {@code null}
+     * @author Petre Flaviu-Mihai
+     */
+    public void evict(Long id, String title) {
+        Long courseId = id;
+        if (courseId == null && title != null) {
+            FullCourseDto cached = coursesByTitle.asMap().get(title);
+            courseId = cached != null ? cached.getId() : null;
+        }
+
+        Long evictedId = courseId;
+        invalidate(evictedId, title);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(evictedId, title);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        coursesByTitle.invalidateAll();
+        coursesById.invalidateAll();
+    }
+
+    private void invalidate(Long id, String title) {
+        if (id != null) {
+            coursesById.invalidate(id);
+        }
+        if (title != null) {
+            coursesByTitle.invalidate(title);
+        }
+    }
+
+    private static FullCourseDto copy(FullCourseDto course) {
+        return new FullCourseDto(course.getId(), course.getTitle(), course.getDepartment(), course.getCapacity());
+    }
+}
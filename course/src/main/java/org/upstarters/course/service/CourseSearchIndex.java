@@ -0,0 +1,299 @@
+package org.upstarters.course.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory trigram index over course titles used by the course search.
+ * <p>
+ * Titles are normalized (case, accents and punctuation are ignored) and split into the same padded
+ * trigrams as Postgres' {@code pg_trgm}, so that every word contributes a {@code "  x"} and {@code " xy"}
+ * gram for its beginning. Candidates are collected from the rarest posting lists first: prefix matches
+ * by intersecting the lists of the grams every match must contain, starting from the shortest one, and
+ * typo matches only from the few rarest lists one of which every such match must share. The one-letter
+ * {@code "  x"} grams, which cover a large share of any catalog, are only used for one-letter words. At
+ * most {@value #MAX_CANDIDATES} candidates are ranked, so the cost of a search does not grow with the
+ * size of the catalog.
+ * <p>
+ * Results are ranked in three tiers: titles starting with the query, titles in which every query word
+ * starts a title word, and titles that share at least {@value #MIN_COVERAGE_PERCENT}% of the query's
+ * trigrams, which is what tolerates typos. Within a tier, titles closer to the query (by trigram
+ * similarity) come first.
+ * <p>
+ * Searches read the index without locking. Writes are applied after the surrounding transaction commits
+ * and are serialized with full rebuilds, so a rebuild can never overwrite a newer write. Every replica
+ * keeps its own index; the periodic rebuild bounds how long writes made on another replica stay invisible.
+ *
+ * @author Petre Flaviu-Mihai
+ * @version 1.0
+ * @see CourseService#searchCourses(String, int)
+ */
+@Component
+public class CourseSearchIndex {
+
+    static final int MIN_COVERAGE_PERCENT = 50;
+    static final int MAX_CANDIDATES = 2_000;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the IDs of the best matching courses, best match first.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of the matching courses; empty if the query has no letters or digits
+     * @author Petre Flaviu-Mihai
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        Set<String> queryGrams = trigrams(normalized);
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        String[] queryWords = normalized.split(" ");
+        return candidates(queryWords, queryGrams).stream()
+                .map(id -> match(id, normalized, queryWords, queryGrams))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingInt(Match::tier)
+                        .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+                        .thenComparing(Match::title))
+                .limit(limit)
+                .map(Match::id)
+                .toList();
+    }
+
+    /**
+     * Adds a course to the index or replaces its title. Inside a transaction, the change is
+     * applied once the transaction commits.
+     *
+     * @param id    the unique identifier of the course
+     * @param title the current title of the course
+     * @author Petre Flaviu-Mihai
+     */
+    public void put(Long id, String title) {
+        afterCommit(() -> apply(id, title));
+    }
+
+    /**
+     * Removes a course from the index. Inside a transaction, the course is removed once the
+     * transaction commits.
+     *
+     * @param id the unique identifier of the course
+     * @author Petre Flaviu-Mihai
+     */
+    public void remove(Long id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    /**
+     * Replaces the content of the index with the titles returned by the loader.
+     * <p>
+     * The loader runs while writes are held back, so every write either is already part of the
+     * loaded titles or is applied after the rebuild. The index is updated entry by entry, so
+     * searches keep being answered while it is rebuilt.
+     *
+     * @param loader supplies the title of every course, keyed by course ID
+     * @author Petre Flaviu-Mihai
+     */
+    public synchronized void rebuild(Supplier<Map<Long, String>> loader) {
+        Map<Long, String> titles = loader.get();
+
+        titles.forEach(this::apply);
+        entries.keySet().stream()
+                .filter(id -> !titles.containsKey(id))
+                .toList()
+                .forEach(id -> apply(id, null));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void apply(Long id, String title) {
+        if (id == null) {
+            return;
+        }
+
+        Entry previous = title == null ? entries.remove(id) : entries.get(id);
+        if (previous != null && previous.title().equals(title)) {
+            return;
+        }
+
+        if (previous != null) {
+            for (String gram : previous.grams()) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        if (title != null) {
+            String normalized = normalize(title);
+            Entry entry = new Entry(title, normalized, normalized.split(" "), trigrams(normalized));
+            for (String gram : entry.grams()) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+            entries.put(id, entry);
+        }
+    }
+
+    Set<Long> candidates(String[] queryWords, Set<String> queryGrams) {
+        Set<Long> candidates = new HashSet<>();
+
+        // A title in which every query word starts a word contains the grams of every word's beginning.
+        Set<String> prefixGrams = new HashSet<>();
+        for (String word : queryWords) {
+            prefixGrams.addAll(prefixGrams(word));
+        }
+        List<Set<Long>> prefixPostings = rarestFirst(prefixGrams);
+        if (!prefixPostings.isEmpty() && !prefixPostings.get(0).isEmpty()) {
+            for (Long id : prefixPostings.get(0)) {
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return candidates;
+                }
+                if (prefixPostings.stream().allMatch(ids -> ids.contains(id))) {
+                    candidates.add(id);
+                }
+            }
+        }
+
+        // A title sharing enough grams with the query shares at least one of its rarest grams.
+        Set<String> typoGrams = new HashSet<>(queryGrams);
+        typoGrams.removeIf(CourseSearchIndex::isLetterGram);
+        List<Set<Long>> typoPostings = rarestFirst(typoGrams);
+        int required = (queryGrams.size() * MIN_COVERAGE_PERCENT + 99) / 100 - (queryGrams.size() - typoGrams.size());
+        int lists = required > 0 ? typoPostings.size() - required + 1 : typoPostings.size();
+        for (Set<Long> ids : typoPostings.subList(0, Math.max(0, lists))) {
+            for (Long id : ids) {
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return candidates;
+                }
+                candidates.add(id);
+            }
+        }
+        return candidates;
+    }
+
+    private List<Set<Long>> rarestFirst(Set<String> grams) {
+        return grams.stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+    }
+
+    private static Set<String> prefixGrams(String word) {
+        Set<String> grams = new HashSet<>();
+        String padded = "  " + word;
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        if (word.length() > 1) {
+            grams.remove(padded.substring(0, 3));
+        }
+        return grams;
+    }
+
+    private static boolean isLetterGram(String gram) {
+        return gram.startsWith("  ");
+    }
+
+    private Match match(Long id, String query, String[] queryWords, Set<String> queryGrams) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+
+        int common = 0;
+        for (String gram : queryGrams) {
+            if (entry.grams().contains(gram)) {
+                common++;
+            }
+        }
+        double similarity = (double) common / (queryGrams.size() + entry.grams().size() - common);
+
+        int tier;
+        if (entry.normalized().startsWith(query)) {
+            tier = 0;
+        } else if (Arrays.stream(queryWords).allMatch(word -> startsAnyWord(entry.words(), word))) {
+            tier = 1;
+        } else if (common * 100 >= queryGrams.size() * MIN_COVERAGE_PERCENT) {
+            tier = 2;
+        } else {
+            return null;
+        }
+
+        return new Match(id, entry.title(), tier, similarity);
+    }
+
+    private static boolean startsAnyWord(String[] words, String prefix) {
+        for (String word : words) {
+            if (word.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    static Set<String> trigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private record Entry(String title, String normalized, String[] words, Set<String> grams) {
+    }
+
+    private record Match(Long id, String title, int tier, double similarity) {
+    }
+}
@@ -1,25 +1,59 @@
 package org.upstarters.course.service;
 
-import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.upstarters.course.dto.BulkUpsertReportDto;
+import org.upstarters.course.dto.BulkUpsertResultDto;
+import org.upstarters.course.dto.CapacityChangeDto;
+import org.upstarters.course.dto.CapacitySyncReportDto;
 import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.DepartmentSummaryDto;
+import org.upstarters.course.dto.CoursePageDto;
 import org.upstarters.course.dto.ExternalStudentDTO;
 import org.upstarters.course.dto.FullCourseDto;
 import org.upstarters.course.entity.Course;
 import org.upstarters.course.mapper.CourseMapper;
 import org.upstarters.course.repository.CourseRepository;
+import org.upstarters.course.repository.CourseView;
+import org.upstarters.course.service.interfaces.EnrollmentsFeignClient;
 import org.upstarters.course.service.interfaces.ICourseService;
 import org.upstarters.course.service.interfaces.StudentsFeignClient;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class that handles all business logic related to Course management.
  * <p>
  * This service provides CRUD operations for courses and integrates with external
- * student services via Feign client for cross-service communication.
+ * student services via Feign client for cross-service communication. Listings run in
+ * read-only transactions and read projections instead of managed {@link Course} entities.
  *
  * @author Petre Flaviu-Mihai
  * @version 1.0
@@ -30,20 +64,55 @@ import java.util.Optional;
 @Service
 public class CourseService implements ICourseService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_SEARCH_RESULTS = 100;
+    static final int MAX_BULK_UPSERT_SIZE = 50_000;
+    static final int BULK_LOOKUP_SIZE = 1_000;
+
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "courseId",
+            "title", "title",
+            "department", "department",
+            "capacity", "capacity");
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseService.class);
+
     private final CourseRepository courseRepository;
+    private final CatalogVersionSequence catalogVersionSequence;
     private final StudentsFeignClient studentsFeignClient;
+    private final EnrollmentsFeignClient enrollmentsFeignClient;
+    private final CourseLookupCache courseLookupCache;
+    private final CourseSearchIndex courseSearchIndex;
+    private final CourseDepartmentIndex courseDepartmentIndex;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructs a new CourseService with the required dependencies.
      *
      * @param studentsFeignClient the Feign client for communicating with the Students microservice
+     * @param enrollmentsFeignClient the Feign client notifying the Enrollments microservice of removed courses
      * @param courseRepository    the repository for Course entity persistence operations
+     * @param catalogVersionSequence the sequence holding the catalog-wide change counter
+     * @param courseLookupCache   the in-memory cache answering single-course lookups
+     * @param courseSearchIndex   the in-memory trigram index answering title searches
+     * @param courseDepartmentIndex the in-memory department multimap answering department listings
+     * @param transactionManager  the transaction manager used for batch updates
      * @author Petre Flaviu-Mihai
      */
     @Autowired
-    public CourseService(StudentsFeignClient studentsFeignClient, CourseRepository courseRepository) {
+    public CourseService(StudentsFeignClient studentsFeignClient, EnrollmentsFeignClient enrollmentsFeignClient,
+                         CourseRepository courseRepository,
+                         CatalogVersionSequence catalogVersionSequence, CourseLookupCache courseLookupCache,
+                         CourseSearchIndex courseSearchIndex, CourseDepartmentIndex courseDepartmentIndex,
+                         PlatformTransactionManager transactionManager) {
         this.courseRepository = courseRepository;
+        this.catalogVersionSequence = catalogVersionSequence;
         this.studentsFeignClient = studentsFeignClient;
+        this.enrollmentsFeignClient = enrollmentsFeignClient;
+        this.courseLookupCache = courseLookupCache;
+        this.courseSearchIndex = courseSearchIndex;
+        this.courseDepartmentIndex = courseDepartmentIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -59,65 +128,410 @@ public class CourseService implements ICourseService {
      * @see CourseMapper#toDto(Course)
      */
     @Override
+    @Transactional
     public CourseDto addCourse(CourseDto courseDto) {
         Course course = CourseMapper.toEntity(courseDto);
         courseRepository.save(course);
+        courseSearchIndex.put(course.getCourseId(), course.getTitle());
+        reindexDepartments(course.getCourseId());
+        bumpCatalogVersion();
         return CourseMapper.toDto(course);
     }
 
+    /**
+     * Creates or updates many courses at once, matching existing courses by title.
+     * <p>
+     * Existing courses are looked up with one query per {@value #BULK_LOOKUP_SIZE} titles. New courses
+     * are inserted and changed courses updated with batched JDBC statements, all in a single transaction,
+     * and the catalog version is bumped once for the whole load. Invalid entries and titles repeated in
+     * the request are rejected without failing the others.
+     *
+     * @param courseDtos the courses to create or update, at most {@value #MAX_BULK_UPSERT_SIZE}
+     * @return a {@link BulkUpsertReportDto} with the outcome of every entry, in request order
+     * @throws IllegalArgumentException if the list is empty or larger than {@value #MAX_BULK_UPSERT_SIZE}
+     * @author Petre Flaviu-Mihai
+     * @see CourseRepository#insertAllInBatches(List)
+     * @see CourseRepository#updateAllInBatches(List)
+     */
+    @Override
+    @Transactional
+    public BulkUpsertReportDto bulkUpsertCourses(List<CourseDto> courseDtos) {
+        if (courseDtos == null || courseDtos.isEmpty() || courseDtos.size() > MAX_BULK_UPSERT_SIZE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BULK_UPSERT_SIZE + " courses must be sent");
+        }
+
+        BulkUpsertResultDto[] results = new BulkUpsertResultDto[courseDtos.size()];
+        Map<String, Integer> positions = new LinkedHashMap<>();
+
+        for (int i = 0; i < courseDtos.size(); i++) {
+            CourseDto courseDto = courseDtos.get(i);
+            String problem = validateForUpsert(courseDto, positions);
+
+            if (problem != null) {
+                String title = courseDto != null ? courseDto.getTitle() : null;
+                results[i] = new BulkUpsertResultDto(title, BulkUpsertResultDto.Outcome.REJECTED, null, problem);
+            } else {
+                positions.put(courseDto.getTitle(), i);
+            }
+        }
+
+        Map<String, CourseView> existingCourses = new HashMap<>();
+        List<String> titles = new ArrayList<>(positions.keySet());
+        for (int from = 0; from < titles.size(); from += BULK_LOOKUP_SIZE) {
+            for (CourseView course : courseRepository.findAllByTitleIn(
+                    titles.subList(from, Math.min(from + BULK_LOOKUP_SIZE, titles.size())))) {
+                existingCourses.merge(course.getTitle(), course,
+                        (first, second) -> first.getCourseId() <= second.getCourseId() ? first : second);
+            }
+        }
+
+        List<Course> inserts = new ArrayList<>();
+        List<Course> updates = new ArrayList<>();
+        for (Map.Entry<String, Integer> position : positions.entrySet()) {
+            CourseDto courseDto = courseDtos.get(position.getValue());
+            CourseView existing = existingCourses.get(position.getKey());
+
+            if (existing == null) {
+                inserts.add(CourseMapper.toEntity(courseDto));
+            } else if (Objects.equals(existing.getDepartment(), courseDto.getDepartment())
+                    && Objects.equals(existing.getCapacity(), courseDto.getCapacity())) {
+                results[position.getValue()] = new BulkUpsertResultDto(courseDto.getTitle(),
+                        BulkUpsertResultDto.Outcome.UNCHANGED, existing.getCourseId(), null);
+            } else {
+                updates.add(new Course(existing.getCourseId(), courseDto.getTitle(),
+                        courseDto.getDepartment(), courseDto.getCapacity()));
+            }
+        }
+
+        courseRepository.updateAllInBatches(updates);
+        courseRepository.insertAllInBatches(inserts);
+
+        for (Course course : updates) {
+            results[positions.get(course.getTitle())] = new BulkUpsertResultDto(course.getTitle(),
+                    BulkUpsertResultDto.Outcome.UPDATED, course.getCourseId(), null);
+            courseLookupCache.evict(course.getCourseId(), course.getTitle());
+        }
+        for (Course course : inserts) {
+            results[positions.get(course.getTitle())] = new BulkUpsertResultDto(course.getTitle(),
+                    BulkUpsertResultDto.Outcome.CREATED, course.getCourseId(), null);
+            courseSearchIndex.put(course.getCourseId(), course.getTitle());
+        }
+
+        if (!inserts.isEmpty() || !updates.isEmpty()) {
+            List<Long> changedIds = new ArrayList<>(inserts.size() + updates.size());
+            updates.forEach(course -> changedIds.add(course.getCourseId()));
+            inserts.forEach(course -> changedIds.add(course.getCourseId()));
+            reindexDepartments(changedIds);
+            bumpCatalogVersion();
+        }
+
+        int rejected = courseDtos.size() - positions.size();
+        return new BulkUpsertReportDto(inserts.size(), updates.size(),
+                positions.size() - inserts.size() - updates.size(), rejected, Arrays.asList(results));
+    }
+
+    private static String validateForUpsert(CourseDto courseDto, Map<String, Integer> acceptedTitles) {
+        if (courseDto == null || courseDto.getTitle() == null || courseDto.getTitle().isBlank()) {
+            return "Title must not be blank";
+        }
+        if (courseDto.getCapacity() == null || courseDto.getCapacity() < 0) {
+            return "Capacity must be a non-negative number";
+        }
+        if (acceptedTitles.containsKey(courseDto.getTitle())) {
+            return "Duplicate of the course at index " + acceptedTitles.get(courseDto.getTitle());
+        }
+        return null;
+    }
+
     /**
      * Retrieves a course by its unique identifier.
      * <p>
-     * This method queries the database for a course with the specified ID
-     * and returns it wrapped in an Optional to handle the case where the course
-     * may not exist.
+     * This method answers from the {@link CourseLookupCache} and only queries the database
+     * for a course with the specified ID on a cache miss. The course is returned
+     * wrapped in an Optional to handle the case where the course may not exist.
      *
      * @param id the unique identifier of the course to retrieve
      * @return an {@link Optional} containing the {@link CourseDto} if found,
      *         or an empty Optional if no course exists with the given ID
      * @author Petre Flaviu-Mihai
+     * @see CourseLookupCache#getById(Long, java.util.function.Function)
      */
     @Override
     public Optional<CourseDto> getCourseById(Long id) {
-        return courseRepository.findById(id)
-                .map(CourseMapper::toDto);
+        return courseLookupCache.getById(id, courseRepository::findById)
+                .map(course -> new CourseDto(course.getTitle(), course.getDepartment(), course.getCapacity()));
     }
 
     /**
      * Retrieves all courses from the database.
      * <p>
-     * This method fetches every course entity from the repository and converts
-     * them to DTOs for presentation layer consumption.
+     * This method selects the course columns straight into DTOs, without loading
+     * course entities into the persistence context.
      *
      * @return a {@link List} of {@link CourseDto} representing all courses in the system;
      *         returns an empty list if no courses exist
      * @author Petre Flaviu-Mihai
+     * @see CourseRepository#findAllCourseDtos()
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CourseDto> getAllCourses() {
-        List<Course> courses = courseRepository.findAll();
+        return courseRepository.findAllCourseDtos();
+    }
+
+    /**
+     * Retrieves one page of courses.
+     * <p>
+     * Page number, size and sort order come from the given {@link Pageable}. Only the
+     * {@code id}, {@code title}, {@code department} and {@code capacity} properties can be used
+     * for sorting, and the course ID is always appended as a tie-breaker so that pages do
+     * not overlap. In slice mode the total count is not queried; the page only reports
+     * whether another page follows.
+     *
+     * @param pageable the requested page number, size and sort order
+     * @param slice    {@code true} to skip the {@code COUNT(*)} query
+     * @return a {@link CoursePageDto} with the courses of the requested page
+     * @throws IllegalArgumentException if the sort order uses an unknown property
+     * @author Petre Flaviu-Mihai
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDto getCoursesPage(Pageable pageable, boolean slice) {
+        Pageable request = withTieBreaker(pageable);
+
+        return slice
+                ? toPageDto(courseRepository.findSliceBy(request))
+                : toPageDto(courseRepository.findAllProjectedBy(request));
+    }
 
-        return courses.stream()
+    /**
+     * Retrieves one page of the courses that have available capacity.
+     * <p>
+     * Behaves like {@link #getCoursesPage(Pageable, boolean)}, restricted to courses
+     * whose capacity is greater than zero.
+     *
+     * @param pageable the requested page number, size and sort order
+     * @param slice    {@code true} to skip the {@code COUNT(*)} query
+     * @return a {@link CoursePageDto} with the available courses of the requested page
+     * @throws IllegalArgumentException if the sort order uses an unknown property
+     * @author Petre Flaviu-Mihai
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDto getAvailableCoursesPage(Pageable pageable, boolean slice) {
+        Pageable request = withTieBreaker(pageable);
+
+        return slice
+                ? toPageDto(courseRepository.findSliceByCapacityGreaterThan(0, request))
+                : toPageDto(courseRepository.findByCapacityGreaterThan(0, request));
+    }
+
+    /**
+     * Retrieves the courses following the given cursor, ordered by ID.
+     * <p>
+     * Keyset pagination reads each page with an index range scan on the ID, so deep pages
+     * cost the same as the first one. The {@code next} value of the returned page is the
+     * cursor of the following page.
+     *
+     * @param after the cursor returned with the previous page; {@code null} or empty for the first page
+     * @param size  the maximum number of courses to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return a {@link CoursePageDto} with the courses and the cursor of the following page
+     * @throws IllegalArgumentException if the size is out of range or the cursor is malformed
+     * @author Petre Flaviu-Mihai
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDto getCoursesAfter(String after, int size) {
+        long[] cursor = decodeCursor(after, 1, 0L);
+        return toKeysetPage(courseRepository.findAfterId(cursor[0], keysetRequest(size)), size, false);
+    }
+
+    /**
+     * Retrieves the available courses following the given cursor, ordered by ID.
+     *
+     * @param after the cursor returned with the previous page; {@code null} or empty for the first page
+     * @param size  the maximum number of courses to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return a {@link CoursePageDto} with the courses and the cursor of the following page
+     * @throws IllegalArgumentException if the size is out of range or the cursor is malformed
+     * @author Petre Flaviu-Mihai
+     * @see #getCoursesAfter(String, int)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDto getAvailableCoursesAfter(String after, int size) {
+        long[] cursor = decodeCursor(after, 1, 0L);
+        return toKeysetPage(courseRepository.findAvailableAfterId(cursor[0], keysetRequest(size)), size, false);
+    }
+
+    /**
+     * Retrieves the courses following the given cursor, ordered by capacity and then by ID.
+     *
+     * @param after the cursor returned with the previous page; {@code null} or empty for the first page
+     * @param size  the maximum number of courses to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return a {@link CoursePageDto} with the courses and the cursor of the following page
+     * @throws IllegalArgumentException if the size is out of range or the cursor is malformed
+     * @author Petre Flaviu-Mihai
+     * @see #getCoursesAfter(String, int)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDto getCoursesSortedByCapacityAfter(String after, int size) {
+        long[] cursor = decodeCursor(after, 2, Integer.MIN_VALUE, 0L);
+        return toKeysetPage(courseRepository.findAfterCapacity((int) cursor[0], cursor[1], keysetRequest(size)), size, true);
+    }
+
+    private static Pageable withTieBreaker(Pageable pageable) {
+        Sort sort = Sort.unsorted();
+        for (Sort.Order order : pageable.getSort()) {
+            String property = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new IllegalArgumentException("Courses cannot be sorted by " + order.getProperty());
+            }
+            sort = sort.and(Sort.by(order.getDirection(), property));
+        }
+
+        if (sort.getOrderFor("courseId") == null) {
+            sort = sort.and(Sort.by("courseId"));
+        }
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private static CoursePageDto toPageDto(Slice<CourseView> page) {
+        List<CourseDto> content = page.getContent().stream()
                 .map(CourseMapper::toDto)
                 .toList();
+
+        if (page instanceof Page<CourseView> fullPage) {
+            return new CoursePageDto(content, page.getNumber(), page.getSize(),
+                    fullPage.getTotalElements(), fullPage.getTotalPages(), page.hasNext(), null);
+        }
+        return new CoursePageDto(content, page.getNumber(), page.getSize(), null, null, page.hasNext(), null);
+    }
+
+    private static Pageable keysetRequest(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    private static CoursePageDto toKeysetPage(List<CourseView> courses, int size, boolean byCapacity) {
+        boolean hasNext = courses.size() > size;
+        List<CourseView> page = hasNext ? courses.subList(0, size) : courses;
+
+        String next = null;
+        if (hasNext) {
+            CourseView last = page.get(size - 1);
+            next = byCapacity
+                    ? encodeCursor(last.getCapacity() + ":" + last.getCourseId())
+                    : encodeCursor(String.valueOf(last.getCourseId()));
+        }
+
+        return new CoursePageDto(page.stream().map(CourseMapper::toDto).toList(),
+                null, size, null, null, hasNext, next);
+    }
+
+    private static String encodeCursor(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] decodeCursor(String cursor, int parts, long... defaults) {
+        if (cursor == null || cursor.isEmpty()) {
+            return defaults;
+        }
+
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (values.length != parts) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+
+            long[] decoded = new long[parts];
+            for (int i = 0; i < parts; i++) {
+                decoded[i] = Long.parseLong(values[i]);
+            }
+            return decoded;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
     }
 
     /**
      * Retrieves a course with full details by its title.
      * <p>
      * Unlike {@link #getCourseById(Long)}, this method returns a {@link FullCourseDto}
-     * which includes the course ID along with other details.
+     * which includes the course ID along with other details. The course is answered from the
+     * {@link CourseLookupCache} and only loaded from the database on a cache miss.
      *
      * @param title the exact title of the course to search for
      * @return an {@link Optional} containing the {@link FullCourseDto} if found,
      *         or an empty Optional if no course exists with the given title
      * @author Petre Flaviu-Mihai
      * @see FullCourseDto
+     * @see CourseLookupCache#getByTitle(String, java.util.function.Function)
      */
     @Override
     public Optional<FullCourseDto> getFullCourseByTitle(String title) {
-        return Optional.ofNullable(courseRepository.findByTitle(title))
-                .map(CourseMapper::toFullDto);
+        return courseLookupCache.getByTitle(title, courseRepository::findByTitle);
+    }
+
+    /**
+     * Resolves the titles of several courses in a single query.
+     * <p>
+     * This method lets other services map many course identifiers at once instead of
+     * calling {@link #getCourseById(Long)} once per identifier. Identifiers that do not
+     * match any course are simply absent from the returned map.
+     *
+     * @param ids the unique identifiers of the courses to resolve
+     * @return a {@link Map} from course ID to course title for every course that was found;
+     *         returns an empty map if none of the identifiers match
+     * @author Petre Flaviu-Mihai
+     * @see CourseRepository#findAllByCourseIdIn(java.util.Collection)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> getCourseTitlesByIds(List<Long> ids) {
+        Map<Long, String> titles = new HashMap<>();
+
+        if (ids == null || ids.isEmpty()) {
+            return titles;
+        }
+
+        for (CourseView course : courseRepository.findAllByCourseIdIn(ids)) {
+            titles.put(course.getCourseId(), course.getTitle());
+        }
+
+        return titles;
+    }
+
+    /**
+     * Resolves a batch of course titles to their identifiers with a single query.
+     * <p>
+     * This is the reverse of {@link #getCourseTitlesByIds(List)} and is used by bulk imports
+     * in other services to validate many course titles at once. Titles that do not match
+     * any course are simply absent from the returned map.
+     *
+     * @param titles the titles of the courses to resolve
+     * @return a {@link Map} from course title to course ID for every course that was found;
+     *         returns an empty map if none of the titles match
+     * @author Petre Flaviu-Mihai
+     * @see CourseRepository#findAllByTitleIn(java.util.Collection)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCourseIdsByTitles(List<String> titles) {
+        Map<String, Long> ids = new HashMap<>();
+
+        if (titles == null || titles.isEmpty()) {
+            return ids;
+        }
+
+        for (CourseView course : courseRepository.findAllByTitleIn(titles)) {
+            ids.put(course.getTitle(), course.getCourseId());
+        }
+
+        return ids;
     }
 
     /**
@@ -149,6 +563,9 @@ public class CourseService implements ICourseService {
         existingCourse.setCapacity(courseDto.getCapacity());
 
         courseRepository.save(existingCourse);
+        courseLookupCache.evict(existingCourse.getCourseId(), existingCourse.getTitle());
+        reindexDepartments(existingCourse.getCourseId());
+        bumpCatalogVersion();
         return true;
     }
 
@@ -156,7 +573,9 @@ public class CourseService implements ICourseService {
      * Deletes a course from the system by its title.
      * <p>
      * This method searches for a course with the specified title and removes it
-     * from the database if found. This operation is transactional.
+     * from the database if found. This operation is transactional. Once the removal
+     * commits, the Enrollments microservice is told to drop the course title stored
+     * on its enrollments.
      *
      * @param title the exact title of the course to delete
      * @return {@code true} if the course was found and successfully deleted;
@@ -173,67 +592,148 @@ public class CourseService implements ICourseService {
         }
 
         courseRepository.delete(existingCourse);
+        courseLookupCache.evict(existingCourse.getCourseId(), existingCourse.getTitle());
+        courseSearchIndex.remove(existingCourse.getCourseId());
+        reindexDepartments(existingCourse.getCourseId());
+        notifyCourseRemoved(existingCourse.getCourseId());
+        bumpCatalogVersion();
         return true;
     }
 
     /**
      * Retrieves all courses belonging to a specific department.
      * <p>
-     * This method queries the repository for all courses that match the given
-     * department name and returns them as a list of DTOs.
+     * The courses are answered from the in-memory {@link CourseDepartmentIndex}. Until the index has
+     * been loaded, the repository is queried instead, using the index on the department column.
      *
      * @param department the name of the department to filter courses by
-     * @return a {@link List} of {@link CourseDto} belonging to the specified department
+     * @return a {@link List} of {@link CourseDto} belonging to the specified department, ordered by ID
      * @throws RuntimeException if no courses are found for the specified department
      * @author Petre Flaviu-Mihai
+     * @see CourseDepartmentIndex#getCourses(String)
+     * @see CourseRepository#findCourseDtosByDepartment(String)
      */
     @Override
-    @Transactional
     public List<CourseDto> getCoursesByDepartment(String department) {
-        List<Course> departmentCourses = courseRepository.findCourseByDepartment(department);
+        List<CourseDto> departmentCourses = courseDepartmentIndex.isLoaded()
+                ? courseDepartmentIndex.getCourses(department)
+                : courseRepository.findCourseDtosByDepartment(department);
 
         if (departmentCourses.isEmpty()) {
             throw new RuntimeException("Course with department " + department + " does not exist.");
         }
 
-        return departmentCourses.stream()
-                .map(CourseMapper::toDto)
-                .toList();
+        return departmentCourses;
     }
 
     /**
      * Updates the capacity of a specific course.
      * <p>
      * This method allows partial updates to a course by modifying only its capacity.
-     * The capacity must be a non-negative integer.
+     * The capacity must be a non-negative integer. The new value is written with a single
+     * {@code UPDATE} statement instead of loading and saving the whole course.
      *
      * @param capacity the new capacity value to set (must be >= 0)
      * @param title    the exact title of the course to update
      * @return {@code true} if the course was found and capacity was successfully updated;
      *         {@code false} if the course was not found or the capacity is negative
      * @author Petre Flaviu-Mihai
+     * @see CourseRepository#updateCapacityByTitle(String, Integer)
      */
     @Override
     @Transactional
     public Boolean updateCapacityOfCourse(Integer capacity, String title) {
-        Course existingCourse = courseRepository.findByTitle(title);
+        if (capacity < 0) {
+            System.out.println("Capacity of course with title " + title + " must be positive.");
+            return false;
+        }
 
-        if (existingCourse == null) {
+        Long courseId = findCourseIdOrNull(title);
+        int updated = courseRepository.updateCapacityByTitle(title, capacity);
+        courseLookupCache.evict(courseId, title);
+
+        if (updated == 0) {
             System.out.println("Course with title " + title + " does not exist.");
             return false;
         }
 
-        if (capacity < 0) {
-            System.out.println("Capacity of course with title " + title + " must be positive.");
+        reindexDepartments(courseId);
+        bumpCatalogVersion();
+        return true;
+    }
+
+    /**
+     * Reserves one seat of a course.
+     * <p>
+     * The seat is taken with a single conditional {@code UPDATE} that only decrements the
+     * capacity while it is greater than zero, so concurrent reservations can never take
+     * more seats than the course has or lose a decrement.
+     *
+     * @param title the exact title of the course
+     * @return {@code true} if a seat was reserved; {@code false} if the course has no seats left
+     * @throws NoSuchElementException if no course exists with the given title
+     * @author Petre Flaviu-Mihai
+     * @see CourseRepository#reserveSeat(Long)
+     */
+    @Override
+    @Transactional
+    public Boolean reserveSeat(String title) {
+        Long courseId = findCourseId(title);
+
+        if (courseRepository.reserveSeat(courseId) == 0) {
+            ensureCourseExists(courseId, title);
             return false;
         }
 
-        existingCourse.setCapacity(capacity);
-
-        courseRepository.save(existingCourse);
+        courseLookupCache.evict(courseId, title);
+        reindexDepartments(courseId);
+        bumpCatalogVersion();
         return true;
     }
 
+    /**
+     * Gives back one seat of a course previously taken with {@link #reserveSeat(String)}.
+     *
+     * @param title the exact title of the course
+     * @throws NoSuchElementException if no course exists with the given title
+     * @author Petre Flaviu-Mihai
+     * @see CourseRepository#releaseSeat(Long)
+     */
+    @Override
+    @Transactional
+    public void releaseSeat(String title) {
+        Long courseId = findCourseId(title);
+
+        if (courseRepository.releaseSeat(courseId) == 0) {
+            ensureCourseExists(courseId, title);
+        }
+
+        courseLookupCache.evict(courseId, title);
+        reindexDepartments(courseId);
+        bumpCatalogVersion();
+    }
+
+    private Long findCourseId(String title) {
+        Long courseId = findCourseIdOrNull(title);
+        if (courseId == null) {
+            throw new NoSuchElementException("Course with title " + title + " does not exist.");
+        }
+        return courseId;
+    }
+
+    private Long findCourseIdOrNull(String title) {
+        return getFullCourseByTitle(title)
+                .map(FullCourseDto::getId)
+                .orElse(null);
+    }
+
+    private void ensureCourseExists(Long courseId, String title) {
+        if (!courseRepository.existsById(courseId)) {
+            courseLookupCache.evict(courseId, title);
+            throw new NoSuchElementException("Course with title " + title + " does not exist.");
+        }
+    }
+
     /**
      * Retrieves all courses that have available capacity.
      * <p>
@@ -243,19 +743,18 @@ public class CourseService implements ICourseService {
      * @return a {@link List} of {@link CourseDto} representing all courses with capacity > 0
      * @throws RuntimeException if no available courses are found in the system
      * @author Petre Flaviu-Mihai
-     * @see CourseRepository#findCourseAvailable()
+     * @see CourseRepository#findAvailableCourseDtos()
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CourseDto> getCoursesAvailable() {
-        List<Course> availableCourses = courseRepository.findCourseAvailable();
+        List<CourseDto> availableCourses = courseRepository.findAvailableCourseDtos();
 
         if (availableCourses.isEmpty()) {
             throw new RuntimeException("There are no available courses.");
         }
 
-        return availableCourses.stream()
-                .map(CourseMapper::toDto)
-                .toList();
+        return availableCourses;
     }
 
     /**
@@ -267,15 +766,12 @@ public class CourseService implements ICourseService {
      * @return a {@link List} of {@link CourseDto} sorted by capacity in ascending order;
      *         returns an empty list if no courses exist
      * @author Petre Flaviu-Mihai
-     * @see CourseRepository#findAllByOrderByCapacityAsc()
+     * @see CourseRepository#findCourseDtosOrderByCapacity()
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CourseDto> getCoursesSortedByCapacity() {
-        List<Course> courses = courseRepository.findAllByOrderByCapacityAsc();
-
-        return courses.stream()
-                .map(CourseMapper::toDto)
-                .toList();
+        return courseRepository.findCourseDtosOrderByCapacity();
     }
 
     /**
@@ -314,8 +810,9 @@ public class CourseService implements ICourseService {
     /**
      * Synchronizes a course's capacity with the number of students in a department.
      * <p>
-     * This method fetches the count of students from the specified department via
-     * the Students microservice and updates the course's capacity to match that count.
+     * This method asks the Students microservice for the number of students in the specified
+     * department and updates the course's capacity to match that count. Only the count is
+     * transferred; the students themselves are never fetched.
      * This is useful for automatically adjusting course capacity based on enrollment.
      * <p>
      * The operation will fail if either the students cannot be retrieved from the
@@ -326,23 +823,211 @@ public class CourseService implements ICourseService {
      * @return {@code true} if the course capacity was successfully synchronized;
      *         {@code false} if the students could not be retrieved or the course was not found
      * @author Petre Flaviu-Mihai
-     * @see StudentsFeignClient#getStudentsByMajor(String)
+     * @see StudentsFeignClient#countStudentsByMajor(String)
      */
     @Override
     public Boolean updateCourseCapacityBasedOnStudentCount(String courseTitle, String department) {
-        List<ExternalStudentDTO> students = studentsFeignClient.getStudentsByMajor(department);
+        Long studentCount = studentsFeignClient.countStudentsByMajor(department);
 
-        if (students == null) {
+        if (studentCount == null) {
             return false;
         }
 
-        Course existingCourse = courseRepository.findByTitle(courseTitle);
-        if (existingCourse == null) {
-            return false;
+        return transactionTemplate.execute(status -> {
+            Long courseId = findCourseIdOrNull(courseTitle);
+            int updated = courseRepository.updateCapacityByTitle(courseTitle, Math.toIntExact(studentCount));
+            courseLookupCache.evict(courseId, courseTitle);
+
+            if (updated == 0) {
+                return false;
+            }
+
+            reindexDepartments(courseId);
+            bumpCatalogVersion();
+            return true;
+        });
+    }
+
+    /**
+     * Synchronizes the capacity of every course with the number of students in its department.
+     * <p>
+     * The per-major student counts are fetched from the Students microservice with a single
+     * request before any database work starts. The new capacities are then computed in memory
+     * and all changed courses are written in one transaction, which Hibernate sends as batched
+     * {@code UPDATE} statements. Courses whose department has no students get a capacity of zero.
+     *
+     * @return a {@link CapacitySyncReportDto} listing every course whose capacity changed
+     * @throws IllegalStateException if the student counts could not be retrieved
+     * @author Petre Flaviu-Mihai
+     * @see StudentsFeignClient#countStudentsPerMajor()
+     */
+    @Override
+    public CapacitySyncReportDto syncAllCourseCapacitiesWithStudentCounts() {
+        Map<String, Long> studentsPerMajor = studentsFeignClient.countStudentsPerMajor();
+
+        if (studentsPerMajor == null) {
+            throw new IllegalStateException("Student counts are unavailable.");
         }
 
-        existingCourse.setCapacity(students.size());
-        courseRepository.save(existingCourse);
-        return true;
+        return transactionTemplate.execute(status -> {
+            List<Course> courses = courseRepository.findAll(Sort.by("courseId"));
+            List<CapacityChangeDto> changes = new ArrayList<>();
+            List<Long> changedIds = new ArrayList<>();
+
+            for (Course course : courses) {
+                int capacity = Math.toIntExact(studentsPerMajor.getOrDefault(course.getDepartment(), 0L));
+
+                if (!Objects.equals(course.getCapacity(), capacity)) {
+                    changes.add(new CapacityChangeDto(course.getTitle(), course.getDepartment(),
+                            course.getCapacity(), capacity));
+                    course.setCapacity(capacity);
+                    courseLookupCache.evict(course.getCourseId(), course.getTitle());
+                    changedIds.add(course.getCourseId());
+                }
+            }
+
+            if (!changes.isEmpty()) {
+                reindexDepartments(changedIds);
+                bumpCatalogVersion();
+            }
+
+            return new CapacitySyncReportDto(courses.size(), changes.size(), changes);
+        });
+    }
+
+    /**
+     * Returns the current value of the catalog-wide change counter.
+     * <p>
+     * Every course write advances the counter once its transaction has committed, without locking
+     * anything. Callers building a conditional response must read the version before the data: a write
+     * committed in between then only produces a fresh body under an older version, which costs the
+     * client one extra download and never serves stale data as current.
+     *
+     * @return the current catalog version
+     * @author Petre Flaviu-Mihai
+     * @see CatalogVersionSequence
+     */
+    @Override
+    public long getCatalogVersion() {
+        return catalogVersionSequence.current();
+    }
+
+    /**
+     * Summarizes every department with a single {@code GROUP BY} query.
+     *
+     * @return one {@link DepartmentSummaryDto} per department, ordered by department name
+     * @author Petre Flaviu-Mihai
+     * @see CourseRepository#summarizeDepartments()
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentSummaryDto> getDepartmentSummaries() {
+        return courseRepository.summarizeDepartments();
+    }
+
+    private void bumpCatalogVersion() {
+        catalogVersionSequence.bump();
+    }
+
+    private void notifyCourseRemoved(Long courseId) {
+        Runnable notification = () -> {
+            try {
+                enrollmentsFeignClient.removeCourse(courseId);
+            } catch (RuntimeException e) {
+                // The course is already deleted; the enrollments' title reconciliation catches up.
+                logger.warn("Could not notify enrollments of the removal of course {}", courseId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notification.run();
+                }
+            });
+        } else {
+            notification.run();
+        }
+    }
+
+    private void reindexDepartments(Long courseId) {
+        reindexDepartments(Collections.singletonList(courseId));
+    }
+
+    private void reindexDepartments(Collection<Long> courseIds) {
+        courseDepartmentIndex.refresh(courseIds, ids -> courseRepository.findAllByCourseIdIn(ids).stream()
+                .map(CourseService::toFullDto)
+                .toList());
+    }
+
+    private static FullCourseDto toFullDto(CourseView course) {
+        return new FullCourseDto(course.getCourseId(), course.getTitle(), course.getDepartment(), course.getCapacity());
+    }
+
+    /**
+     * Searches course titles by prefix, with tolerance for typos.
+     * <p>
+     * Matching and ranking are answered by the {@link CourseSearchIndex}; only the returned courses
+     * are then read from the database, by primary key. Titles starting with the query rank first,
+     * followed by titles in which every query word starts a word, and then by titles that merely
+     * resemble the query.
+     *
+     * @param query the text to search for
+     * @param limit the maximum number of courses to return, between 1 and {@value #MAX_SEARCH_RESULTS}
+     * @return the matching courses as {@link CourseDto}, best match first
+     * @throws IllegalArgumentException if the query is blank or the limit is out of range
+     * @author Petre Flaviu-Mihai
+     * @see CourseSearchIndex#search(String, int)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseDto> searchCourses(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+
+        List<Long> ids = courseSearchIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CourseView> courses = courseRepository.findAllByCourseIdIn(ids).stream()
+                .collect(Collectors.toMap(CourseView::getCourseId, Function.identity()));
+
+        return ids.stream()
+                .map(courses::get)
+                .filter(Objects::nonNull)
+                .map(CourseMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Rebuilds the search index from the database on startup and then periodically, which picks up
+     * courses written by other replicas.
+     *
+     * @author Petre Flaviu-Mihai
+     */
+    @Scheduled(fixedDelayString = "${course.search-index.refresh-interval:5m}")
+    public void refreshSearchIndex() {
+        courseSearchIndex.rebuild(() -> courseRepository.findAllProjectedByOrderByCourseId().stream()
+                .filter(course -> course.getTitle() != null)
+                .collect(Collectors.toMap(CourseView::getCourseId, CourseView::getTitle)));
+    }
+
+    /**
+     * Rebuilds the department index from the database on startup and then periodically, which picks up
+     * courses written by other replicas.
+     *
+     * @author Petre Flaviu-Mihai
+     */
+    @Scheduled(fixedDelayString = "${course.department-index.refresh-interval:5m}")
+    public void refreshDepartmentIndex() {
+        courseDepartmentIndex.rebuild(() -> courseRepository.findAllProjectedByOrderByCourseId().stream()
+                .map(CourseService::toFullDto)
+                .toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package org.upstarters.course.service.interfaces;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "enrollments", path = "/enrollments")
+public interface EnrollmentsFeignClient {
+
+    @DeleteMapping("/courses/{courseId}/title")
+    Integer removeCourse(@PathVariable("courseId") Long courseId);
+}
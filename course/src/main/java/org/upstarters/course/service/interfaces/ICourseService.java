@@ -1,26 +1,46 @@
 package org.upstarters.course.service.interfaces;
 
+import org.springframework.data.domain.Pageable;
+import org.upstarters.course.dto.BulkUpsertReportDto;
+import org.upstarters.course.dto.CapacitySyncReportDto;
 import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.CoursePageDto;
+import org.upstarters.course.dto.DepartmentSummaryDto;
 import org.upstarters.course.dto.ExternalStudentDTO;
 import org.upstarters.course.dto.FullCourseDto;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ICourseService {
     CourseDto addCourse(CourseDto courseDto);
+    BulkUpsertReportDto bulkUpsertCourses(List<CourseDto> courseDtos);
     List<CourseDto> getAllCourses();
+    CoursePageDto getCoursesPage(Pageable pageable, boolean slice);
+    CoursePageDto getAvailableCoursesPage(Pageable pageable, boolean slice);
+    CoursePageDto getCoursesAfter(String after, int size);
+    CoursePageDto getAvailableCoursesAfter(String after, int size);
+    CoursePageDto getCoursesSortedByCapacityAfter(String after, int size);
     Optional<CourseDto> getCourseById(Long id);
     Boolean updateCourse(CourseDto courseDto);
     Boolean deleteCourse(String Title);
 
     List<CourseDto> getCoursesByDepartment(String department);
     Boolean updateCapacityOfCourse(Integer capacity, String title);
+    Boolean reserveSeat(String title);
+    void releaseSeat(String title);
     List<CourseDto> getCoursesAvailable();
     List<CourseDto> getCoursesSortedByCapacity();
     Optional<FullCourseDto> getFullCourseByTitle(String title);
+    Map<Long, String> getCourseTitlesByIds(List<Long> ids);
+    Map<String, Long> getCourseIdsByTitles(List<String> titles);
 
     List<ExternalStudentDTO> getStudents();
     List<ExternalStudentDTO> getStudentsByDepartment(String department);
     Boolean updateCourseCapacityBasedOnStudentCount(String courseTitle, String department);
+    CapacitySyncReportDto syncAllCourseCapacitiesWithStudentCounts();
+    long getCatalogVersion();
+    List<CourseDto> searchCourses(String query, int limit);
+    List<DepartmentSummaryDto> getDepartmentSummaries();
 }
@@ -3,9 +3,12 @@ package org.upstarters.course.service.interfaces;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.upstarters.course.dto.ExternalStudentDTO;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "students", path = "/students")
 public interface StudentsFeignClient {
@@ -13,6 +16,15 @@ public interface StudentsFeignClient {
     @GetMapping("/getStudents")
     List<ExternalStudentDTO> getStudents();
 
+    @PostMapping("/getByEmails")
+    List<ExternalStudentDTO> getStudentsByEmails(@RequestBody List<String> emails);
+
     @GetMapping("/getStudentsByMajor/{major}")
     List<ExternalStudentDTO> getStudentsByMajor(@PathVariable("major") String major);
+
+    @GetMapping("/countStudentsByMajor/{major}")
+    Long countStudentsByMajor(@PathVariable("major") String major);
+
+    @GetMapping("/countStudentsPerMajor")
+    Map<String, Long> countStudentsPerMajor();
 }
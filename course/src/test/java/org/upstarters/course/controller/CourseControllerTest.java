@@ -4,29 +4,51 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.upstarters.course.config.SecurityConfig;
+import org.upstarters.course.dto.BulkUpsertReportDto;
+import org.upstarters.course.dto.BulkUpsertResultDto;
+import org.upstarters.course.dto.CapacityChangeDto;
+import org.upstarters.course.dto.CapacitySyncReportDto;
 import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.CoursePageDto;
+import org.upstarters.course.dto.DepartmentSummaryDto;
 import org.upstarters.course.service.CourseService;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CourseController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, CourseControllerTest.MethodSecurityConfig.class})
 class CourseControllerTest {
 
+    /**
+     * Turns on the {@code @PreAuthorize} role checks of the controller for this slice.
+     */
+    @TestConfiguration
+    @EnableMethodSecurity
+    static class MethodSecurityConfig {
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -63,6 +85,32 @@ class CourseControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getTitlesByIds_ReturnsTitleMap() throws Exception {
+        when(courseService.getCourseTitlesByIds(List.of(1L, 2L))).thenReturn(Map.of(1L, "Java", 2L, "Python"));
+        mockMvc.perform(post("/courses/getTitlesByIds")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['1']").value("Java"))
+                .andExpect(jsonPath("$['2']").value("Python"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getIdsByTitles_ReturnsIdMap() throws Exception {
+        when(courseService.getCourseIdsByTitles(List.of("Java", "Python"))).thenReturn(Map.of("Java", 1L, "Python", 2L));
+        mockMvc.perform(post("/courses/getIdsByTitles")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"Java\", \"Python\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.Java").value(1))
+                .andExpect(jsonPath("$.Python").value(2));
+    }
+
     @Test
     @WithMockUser(roles = "STUDENT")
     void getCourseById_Success() throws Exception {
@@ -118,4 +166,194 @@ class CourseControllerTest {
                         .with(csrf()))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void reserveSeat_Success() throws Exception {
+        when(courseService.reserveSeat("Java")).thenReturn(true);
+        mockMvc.perform(patch("/courses/reserveSeat/Java")
+                        .with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void reserveSeat_NoSeatsLeft_ReturnsConflict() throws Exception {
+        when(courseService.reserveSeat("Java")).thenReturn(false);
+        mockMvc.perform(patch("/courses/reserveSeat/Java")
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void reserveSeat_CourseNotFound() throws Exception {
+        when(courseService.reserveSeat("Unknown")).thenThrow(new NoSuchElementException());
+        mockMvc.perform(patch("/courses/reserveSeat/Unknown")
+                        .with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void releaseSeat_Success() throws Exception {
+        mockMvc.perform(patch("/courses/releaseSeat/Java")
+                        .with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getCoursesPage_Success() throws Exception {
+        CoursePageDto page = new CoursePageDto(List.of(new CourseDto("Java", "IT", 30)), 1, 20, null, null, true, null);
+        when(courseService.getCoursesPage(any(Pageable.class), eq(true))).thenReturn(page);
+
+        mockMvc.perform(get("/courses/getAllCourses/page")
+                        .param("page", "1")
+                        .param("size", "20")
+                        .param("sort", "capacity,desc")
+                        .param("slice", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Java"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getCoursesPage_UnknownSort_ReturnsBadRequest() throws Exception {
+        when(courseService.getCoursesPage(any(Pageable.class), eq(false)))
+                .thenThrow(new IllegalArgumentException("Courses cannot be sorted by password"));
+
+        mockMvc.perform(get("/courses/getAllCourses/page").param("sort", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getCoursesSortedByCapacityAfter_Success() throws Exception {
+        CoursePageDto page = new CoursePageDto(List.of(new CourseDto("Java", "IT", 30)), null, 10, null, null, true, "MzA6MQ");
+        when(courseService.getCoursesSortedByCapacityAfter(null, 10)).thenReturn(page);
+
+        mockMvc.perform(get("/courses/getCoursesSortedByCapacity/keyset").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").value("MzA6MQ"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void syncAllCapacities_Success() throws Exception {
+        CapacitySyncReportDto report = new CapacitySyncReportDto(2, 1,
+                List.of(new CapacityChangeDto("Java", "IT", 30, 42)));
+        when(courseService.syncAllCourseCapacitiesWithStudentCounts()).thenReturn(report);
+
+        mockMvc.perform(put("/courses/syncCapacityWithStudents").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coursesChanged").value(1))
+                .andExpect(jsonPath("$.changes[0].newCapacity").value(42));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void syncAllCapacities_StudentServiceUnavailable() throws Exception {
+        when(courseService.syncAllCourseCapacitiesWithStudentCounts())
+                .thenThrow(new IllegalStateException("Student counts are unavailable."));
+
+        mockMvc.perform(put("/courses/syncCapacityWithStudents").with(csrf()))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getAllAvailableCourses_ReturnsCatalogETag() throws Exception {
+        when(courseService.getCatalogVersion()).thenReturn(7L);
+        when(courseService.getCoursesAvailable()).thenReturn(List.of(new CourseDto("Java", "IT", 30)));
+
+        mockMvc.perform(get("/courses/getAllAvailableCourses"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(jsonPath("$[0].title").value("Java"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getAllAvailableCourses_MatchingETag_ReturnsNotModified() throws Exception {
+        when(courseService.getCatalogVersion()).thenReturn(7L);
+
+        mockMvc.perform(get("/courses/getAllAvailableCourses").header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(courseService, never()).getCoursesAvailable();
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getCoursesByDepartment_StaleETag_ReturnsBody() throws Exception {
+        when(courseService.getCatalogVersion()).thenReturn(8L);
+        when(courseService.getCoursesByDepartment("IT")).thenReturn(List.of(new CourseDto("Java", "IT", 30)));
+
+        mockMvc.perform(get("/courses/getCoursesByDepartment/IT").header("If-None-Match", "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void bulkUpsertCourses_ReturnsReport() throws Exception {
+        List<CourseDto> courses = List.of(new CourseDto("Java", "IT", 30));
+        when(courseService.bulkUpsertCourses(anyList())).thenReturn(new BulkUpsertReportDto(1, 0, 0, 0,
+                List.of(new BulkUpsertResultDto("Java", BulkUpsertResultDto.Outcome.CREATED, 1L, null))));
+
+        mockMvc.perform(post("/courses/bulkUpsert")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(courses)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void bulkUpsertCourses_AsStudent_IsForbidden() throws Exception {
+        mockMvc.perform(post("/courses/bulkUpsert")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void getDepartmentSummaries_ReturnsTotalsWithCatalogETag() throws Exception {
+        when(courseService.getCatalogVersion()).thenReturn(3L);
+        when(courseService.getDepartmentSummaries())
+                .thenReturn(List.of(new DepartmentSummaryDto("IT", 2L, 50L, 45L)));
+
+        mockMvc.perform(get("/courses/departments"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$[0].department").value("IT"))
+                .andExpect(jsonPath("$[0].courseCount").value(2))
+                .andExpect(jsonPath("$[0].availableSeats").value(45));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void searchCourses_Success() throws Exception {
+        when(courseService.searchCourses("jav", 5)).thenReturn(List.of(new CourseDto("Java", "IT", 30)));
+
+        mockMvc.perform(get("/courses/search").param("q", "jav").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Java"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void searchCourses_BlankQuery_ReturnsBadRequest() throws Exception {
+        when(courseService.searchCourses(" ", 20)).thenThrow(new IllegalArgumentException("Search query must not be blank"));
+
+        mockMvc.perform(get("/courses/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,126 @@
+package org.upstarters.course.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.entity.Course;
+import org.upstarters.course.mapper.CourseMapper;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the projection-based course listings return exactly what the former read path,
+ * which loaded managed {@link Course} entities and copied them with {@link CourseMapper}, returned.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:course-projection;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseProjectionTest {
+
+    private static final int ROWS = 2_000;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        if (courseRepository.count() == ROWS) {
+            return;
+        }
+
+        courseRepository.deleteAllInBatch();
+        List<Object[]> rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> new Object[]{"Course " + i, i % 7 == 0 ? null : "Department " + (i % 50), i % 300})
+                .toList();
+        jdbcTemplate.batchUpdate("insert into courses (title, department, capacity) values (?, ?, ?)", rows);
+    }
+
+    @Test
+    void findAllCourseDtos_MatchesEntitiesMappedToDtos() {
+        Comparator<CourseDto> byTitle = Comparator.comparing(CourseDto::getTitle);
+
+        List<CourseDto> projected = readOnly.execute(status -> courseRepository.findAllCourseDtos());
+        List<Course> entities = courseRepository.findAll();
+
+        assertEquals(ROWS, projected.size());
+        assertSameCourses(entities.stream().map(CourseMapper::toDto).sorted(byTitle).toList(),
+                projected.stream().sorted(byTitle).toList());
+    }
+
+    @Test
+    void findAvailableCourseDtos_MatchesFilteredEntitiesInIdOrder() {
+        List<CourseDto> projected = readOnly.execute(status -> courseRepository.findAvailableCourseDtos());
+        List<CourseDto> expected = courseRepository.findAll().stream()
+                .filter(course -> course.getCapacity() > 0)
+                .sorted(Comparator.comparing(Course::getCourseId))
+                .map(CourseMapper::toDto)
+                .toList();
+
+        assertFalse(expected.isEmpty());
+        assertSameCourses(expected, projected);
+    }
+
+    @Test
+    void findCourseDtosOrderByCapacity_MatchesEntitiesInCapacityOrder() {
+        List<CourseDto> projected = readOnly.execute(status -> courseRepository.findCourseDtosOrderByCapacity());
+        List<CourseDto> expected = courseRepository.findAll().stream()
+                .sorted(Comparator.comparing(Course::getCapacity).thenComparing(Course::getCourseId))
+                .map(CourseMapper::toDto)
+                .toList();
+
+        assertSameCourses(expected, projected);
+    }
+
+    @Test
+    void findAllProjectedByOrderByCourseId_MatchesEntitiesInIdOrder() {
+        List<CourseView> projected = readOnly.execute(status -> courseRepository.findAllProjectedByOrderByCourseId());
+        List<Course> expected = courseRepository.findAll().stream()
+                .sorted(Comparator.comparing(Course::getCourseId))
+                .toList();
+
+        assertEquals(expected.size(), projected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getCourseId(), projected.get(i).getCourseId());
+        }
+        assertSameCourses(expected.stream().map(CourseMapper::toDto).toList(),
+                projected.stream().map(CourseMapper::toDto).toList());
+    }
+
+    private static void assertSameCourses(List<CourseDto> expected, List<CourseDto> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getTitle(), actual.get(i).getTitle());
+            assertEquals(expected.get(i).getDepartment(), actual.get(i).getDepartment());
+            assertEquals(expected.get(i).getCapacity(), actual.get(i).getCapacity());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.upstarters.course.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.upstarters.course.dto.BulkUpsertReportDto;
+import org.upstarters.course.dto.BulkUpsertResultDto;
+import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.entity.Course;
+import org.upstarters.course.repository.CourseRepository;
+import org.upstarters.course.service.interfaces.EnrollmentsFeignClient;
+import org.upstarters.course.service.interfaces.StudentsFeignClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bulk course upsert through {@link CourseService} and the batched JDBC writes.
+ * <p>
+ * The loads span more than one JDBC batch, so generated keys and updates are checked across batch
+ * boundaries. Every upsert commits on its own, like a real request.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:course-batch;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CourseService.class, CourseLookupCache.class, CourseSearchIndex.class, CourseDepartmentIndex.class,
+        CatalogVersionSequence.class,
+        SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseBulkUpsertTest {
+
+    private static final int COURSES = 2_500;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @MockitoBean
+    private StudentsFeignClient studentsFeignClient;
+
+    @MockitoBean
+    private EnrollmentsFeignClient enrollmentsFeignClient;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void bulkUpsertCourses_NewCatalog_InsertsEveryCourseWithItsGeneratedId() {
+        BulkUpsertReportDto report = courseService.bulkUpsertCourses(catalog());
+
+        assertEquals(COURSES, report.getCreated());
+        assertEquals(0, report.getUpdated());
+        assertEquals(COURSES, courseRepository.count());
+
+        List<Long> ids = report.getResults().stream().map(BulkUpsertResultDto::getCourseId).toList();
+        assertEquals(COURSES, new HashSet<>(ids).size());
+        for (int i = 0; i < COURSES; i++) {
+            assertEquals(BulkUpsertResultDto.Outcome.CREATED, report.getResults().get(i).getOutcome());
+            Course stored = courseRepository.findById(ids.get(i)).orElseThrow();
+            assertEquals("Course " + i, stored.getTitle());
+            assertEquals("Department " + (i % 50), stored.getDepartment());
+            assertEquals(i % 300, stored.getCapacity());
+        }
+    }
+
+    @Test
+    void bulkUpsertCourses_ExistingCatalog_UpdatesChangedCoursesOnly() {
+        BulkUpsertReportDto created = courseService.bulkUpsertCourses(catalog());
+        courseService.refreshDepartmentIndex();
+
+        List<CourseDto> changed = catalog();
+        for (int i = 0; i < COURSES; i += 2) {
+            changed.get(i).setCapacity(changed.get(i).getCapacity() + 1);
+        }
+        changed.add(new CourseDto("New Course", "Department 0", 10));
+        changed.add(new CourseDto("Course 0", "Department 1", 99));
+
+        BulkUpsertReportDto report = courseService.bulkUpsertCourses(changed);
+
+        assertEquals(1, report.getCreated());
+        assertEquals(COURSES / 2, report.getUpdated());
+        assertEquals(COURSES / 2, report.getUnchanged());
+        assertEquals(1, report.getRejected());
+        assertEquals(COURSES + 1, courseRepository.count());
+
+        for (int i = 0; i < COURSES; i++) {
+            BulkUpsertResultDto result = report.getResults().get(i);
+            assertEquals(created.getResults().get(i).getCourseId(), result.getCourseId());
+            assertEquals(i % 2 == 0 ? BulkUpsertResultDto.Outcome.UPDATED : BulkUpsertResultDto.Outcome.UNCHANGED,
+                    result.getOutcome());
+            assertEquals(i % 300 + (i % 2 == 0 ? 1 : 0),
+                    courseRepository.findById(result.getCourseId()).orElseThrow().getCapacity());
+        }
+        assertEquals(BulkUpsertResultDto.Outcome.REJECTED, report.getResults().get(COURSES + 1).getOutcome());
+        assertEquals(10, courseRepository.findByTitle("New Course").getCapacity());
+        assertEquals(COURSES / 50 + 1, courseService.getCoursesByDepartment("Department 0").size());
+        assertEquals("Department 0", courseRepository.findByTitle("Course 0").getDepartment());
+    }
+
+    private static List<CourseDto> catalog() {
+        return IntStream.range(0, COURSES)
+                .mapToObj(i -> new CourseDto("Course " + i, "Department " + (i % 50), i % 300))
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+}
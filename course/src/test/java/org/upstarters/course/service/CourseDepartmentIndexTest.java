@@ -0,0 +1,104 @@
+package org.upstarters.course.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.FullCourseDto;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseDepartmentIndexTest {
+
+    private CourseDepartmentIndex index;
+    private Map<Long, FullCourseDto> database;
+    private Function<Collection<Long>, List<FullCourseDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseDepartmentIndex();
+        database = new HashMap<>();
+        database.put(2L, new FullCourseDto(2L, "Databases", "IT", 40));
+        database.put(1L, new FullCourseDto(1L, "Java Programming", "IT", 30));
+        database.put(3L, new FullCourseDto(3L, "Algebra", "Mathematics", 20));
+        loader = ids -> ids.stream().map(database::get).filter(course -> course != null).toList();
+        index.rebuild(() -> List.copyOf(database.values()));
+    }
+
+    @Test
+    void getCourses_ReturnsDepartmentOrderedById() {
+        assertTrue(index.isLoaded());
+        assertEquals(List.of("Java Programming", "Databases"), titles(index.getCourses("IT")));
+        assertTrue(index.getCourses("History").isEmpty());
+        assertTrue(index.getCourses(null).isEmpty());
+    }
+
+    @Test
+    void refresh_MovesCourseToItsNewDepartment() {
+        database.put(1L, new FullCourseDto(1L, "Java Programming", "Mathematics", 30));
+
+        index.refresh(List.of(1L), loader);
+
+        assertEquals(List.of("Databases"), titles(index.getCourses("IT")));
+        assertEquals(List.of("Java Programming", "Algebra"), titles(index.getCourses("Mathematics")));
+    }
+
+    @Test
+    void refresh_PatchesCapacityInPlace() {
+        database.put(2L, new FullCourseDto(2L, "Databases", "IT", 39));
+
+        index.refresh(List.of(2L), loader);
+
+        assertEquals(39, index.getCourses("IT").get(1).getCapacity());
+    }
+
+    @Test
+    void refresh_RemovesDeletedCoursesAndEmptyDepartments() {
+        database.remove(3L);
+
+        index.refresh(List.of(3L), loader);
+
+        assertTrue(index.getCourses("Mathematics").isEmpty());
+        assertEquals(2, index.getCourses("IT").size());
+    }
+
+    @Test
+    void refresh_AddsNewCourses() {
+        database.put(4L, new FullCourseDto(4L, "Networks", "IT", 10));
+
+        index.refresh(List.of(4L), loader);
+
+        assertEquals(List.of("Java Programming", "Databases", "Networks"), titles(index.getCourses("IT")));
+    }
+
+    @Test
+    void rebuild_KeepsCoursesPatchedWhileItRuns() {
+        List<FullCourseDto> snapshot = List.copyOf(database.values());
+
+        index.rebuild(() -> {
+            database.put(1L, new FullCourseDto(1L, "Java Programming", "IT", 29));
+            index.refresh(List.of(1L), loader);
+            return snapshot;
+        });
+
+        assertEquals(29, index.getCourses("IT").get(0).getCapacity());
+    }
+
+    @Test
+    void rebuild_DropsCoursesMissingFromTheDatabase() {
+        database.remove(2L);
+
+        index.rebuild(() -> List.copyOf(database.values()));
+
+        assertEquals(List.of("Java Programming"), titles(index.getCourses("IT")));
+    }
+
+    private static List<String> titles(List<CourseDto> courses) {
+        return courses.stream().map(CourseDto::getTitle).toList();
+    }
+}
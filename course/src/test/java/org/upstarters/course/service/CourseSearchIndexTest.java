@@ -0,0 +1,99 @@
+package org.upstarters.course.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseSearchIndexTest {
+
+    private CourseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseSearchIndex();
+        index.put(1L, "Java Programming");
+        index.put(2L, "Advanced Java");
+        index.put(3L, "Databases");
+        index.put(4L, "JavaScript for the Web");
+        index.put(5L, "Introduction to Programming");
+    }
+
+    @Test
+    void search_TitlePrefixRanksBeforeWordPrefix() {
+        assertEquals(List.of(1L, 4L, 2L), index.search("java", 10));
+    }
+
+    @Test
+    void search_MatchesPrefixesOfEveryWord() {
+        assertEquals(List.of(5L), index.search("intro prog", 10));
+    }
+
+    @Test
+    void search_ToleratesTypos() {
+        assertEquals(List.of(3L), index.search("Databsaes", 10));
+        assertTrue(index.search("Programing", 10).containsAll(List.of(1L, 5L)));
+    }
+
+    @Test
+    void search_IgnoresCaseAccentsAndPunctuation() {
+        index.put(6L, "Électronique Numérique");
+        assertEquals(List.of(6L), index.search("electronique-num", 10));
+    }
+
+    @Test
+    void search_AppliesLimit() {
+        assertEquals(List.of(1L), index.search("java", 1));
+    }
+
+    @Test
+    void search_NoLettersOrDigits_ReturnsNothing() {
+        assertTrue(index.search(" -- ", 10).isEmpty());
+    }
+
+    @Test
+    void put_RenamedCourse_IsFoundOnlyByNewTitle() {
+        index.put(3L, "Distributed Systems");
+
+        assertTrue(index.search("databases", 10).isEmpty());
+        assertEquals(List.of(3L), index.search("distributed", 10));
+    }
+
+    @Test
+    void rebuild_ReplacesContent() {
+        index.rebuild(() -> Map.of(1L, "Java Programming", 7L, "Operating Systems"));
+
+        assertEquals(2, index.size());
+        assertTrue(index.search("databases", 10).isEmpty());
+        assertEquals(List.of(7L), index.search("operating", 10));
+    }
+
+    @Test
+    void remove_DropsCourse() {
+        index.remove(2L);
+        assertFalse(index.search("advanced java", 10).contains(2L));
+    }
+
+    @Test
+    void candidates_CommonQueryOnLargeCatalog_StayBounded() {
+        for (long id = 100; id < 100 + 3 * CourseSearchIndex.MAX_CANDIDATES; id++) {
+            index.put(id, "Course " + id);
+        }
+        index.put(1L, "Cryptography");
+
+        assertTrue(candidates("c").size() <= CourseSearchIndex.MAX_CANDIDATES);
+        assertTrue(candidates("course").size() <= CourseSearchIndex.MAX_CANDIDATES);
+        assertEquals(Set.of(1L), candidates("cryp"));
+        assertEquals(List.of(1L), index.search("cryptograpy", 10));
+        assertEquals(5, index.search("course", 5).size());
+    }
+
+    private Set<Long> candidates(String query) {
+        String normalized = CourseSearchIndex.normalize(query);
+        return index.candidates(normalized.split(" "), CourseSearchIndex.trigrams(normalized));
+    }
+}
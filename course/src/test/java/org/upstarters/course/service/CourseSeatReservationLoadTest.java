@@ -0,0 +1,132 @@
+package org.upstarters.course.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.upstarters.course.entity.Course;
+import org.upstarters.course.repository.CourseRepository;
+import org.upstarters.course.service.interfaces.EnrollmentsFeignClient;
+import org.upstarters.course.service.interfaces.StudentsFeignClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registration-day load test for seat reservations.
+ * <p>
+ * Reservations go through {@link CourseService}, including the lookup cache eviction, the department
+ * index patch and the catalog version bump that real requests trigger. The test runs against an in-memory database outside of a
+ * test transaction, so every reservation commits on its own and competes for the same course row like
+ * concurrent requests would.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seat-reservation;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CourseService.class, CourseLookupCache.class, CourseSearchIndex.class, CourseDepartmentIndex.class,
+        CatalogVersionSequence.class,
+        SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseSeatReservationLoadTest {
+
+    private static final int RESERVERS = 500;
+    private static final int SEATS = 120;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @MockitoBean
+    private StudentsFeignClient studentsFeignClient;
+
+    @MockitoBean
+    private EnrollmentsFeignClient enrollmentsFeignClient;
+
+    @Test
+    void reserveSeat_500ConcurrentReservers_NeverOversells() throws Exception {
+        Long courseId = courseRepository.save(new Course("Popular Course", "IT", SEATS)).getCourseId();
+        courseService.refreshDepartmentIndex();
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(RESERVERS, () -> {
+            if (courseService.reserveSeat("Popular Course")) {
+                reserved.incrementAndGet();
+            } else {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(SEATS, reserved.get());
+        assertEquals(RESERVERS - SEATS, rejected.get());
+        assertEquals(0, courseRepository.findById(courseId).orElseThrow().getCapacity());
+        assertEquals(0, courseService.getFullCourseByTitle("Popular Course").orElseThrow().getCapacity());
+        assertEquals(0, courseService.getCourseById(courseId).orElseThrow().getCapacity());
+        assertEquals(0, courseService.getCoursesByDepartment("IT").stream()
+                .filter(course -> course.getTitle().equals("Popular Course"))
+                .findFirst().orElseThrow().getCapacity());
+    }
+
+    @Test
+    void reserveAndReleaseSeat_Concurrently_KeepCapacityConsistent() throws Exception {
+        Long courseId = courseRepository.save(new Course("Busy Course", "IT", RESERVERS)).getCourseId();
+        AtomicInteger calls = new AtomicInteger();
+
+        runConcurrently(RESERVERS + RESERVERS / 2, () -> {
+            if (calls.getAndIncrement() % 3 == 2) {
+                courseService.releaseSeat("Busy Course");
+            } else {
+                assertTrue(courseService.reserveSeat("Busy Course"));
+            }
+            return null;
+        });
+
+        int releases = (RESERVERS + RESERVERS / 2) / 3;
+        int reservations = RESERVERS + RESERVERS / 2 - releases;
+        int expected = RESERVERS - reservations + releases;
+        assertEquals(expected, courseRepository.findById(courseId).orElseThrow().getCapacity());
+        assertEquals(expected, courseService.getCourseById(courseId).orElseThrow().getCapacity());
+    }
+
+    private static void runConcurrently(int tasks, Callable<Void> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>(tasks);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < tasks; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
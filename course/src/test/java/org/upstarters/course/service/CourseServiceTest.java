@@ -5,17 +5,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.upstarters.course.dto.BulkUpsertReportDto;
+import org.upstarters.course.dto.BulkUpsertResultDto;
+import org.upstarters.course.dto.CapacitySyncReportDto;
 import org.upstarters.course.dto.CourseDto;
+import org.upstarters.course.dto.CoursePageDto;
+import org.upstarters.course.dto.DepartmentSummaryDto;
 import org.upstarters.course.dto.ExternalStudentDTO;
 import org.upstarters.course.dto.FullCourseDto;
 import org.upstarters.course.entity.Course;
 import org.upstarters.course.repository.CourseRepository;
+import org.upstarters.course.repository.CourseView;
+import org.upstarters.course.service.interfaces.EnrollmentsFeignClient;
 import org.upstarters.course.service.interfaces.StudentsFeignClient;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,12 +47,33 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CourseServiceTest {
 
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CatalogVersionSequence catalogVersionSequence;
+
     @Mock
     private StudentsFeignClient studentsFeignClient;
 
+    @Mock
+    private EnrollmentsFeignClient enrollmentsFeignClient;
+
+    @Spy
+    private CourseSearchIndex courseSearchIndex = new CourseSearchIndex();
+
+    @Spy
+    private CourseDepartmentIndex courseDepartmentIndex = new CourseDepartmentIndex();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CourseLookupCache courseLookupCache =
+            new CourseLookupCache(Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+
     @InjectMocks
     private CourseService courseService;
 
@@ -55,6 +99,68 @@ class CourseServiceTest {
         CourseDto saved = courseService.addCourse(courseDto);
         assertNotNull(saved);
         assertEquals("Java Programming", saved.getTitle());
+        verify(catalogVersionSequence).bump();
+    }
+
+    @Test
+    void bulkUpsertCourses_ReportsOutcomePerCourse() {
+        Course databases = new Course(2L, "Databases", "IT", 40);
+        course.setCourseId(1L);
+        when(courseRepository.findAllByTitleIn(List.of("Java Programming", "Databases", "Algebra")))
+                .thenReturn(views(course, databases));
+        doAnswer(invocation -> {
+            List<Course> inserted = invocation.getArgument(0);
+            inserted.get(0).setCourseId(3L);
+            return null;
+        }).when(courseRepository).insertAllInBatches(anyList());
+
+        BulkUpsertReportDto report = courseService.bulkUpsertCourses(List.of(
+                new CourseDto("Java Programming", "IT", 30),
+                new CourseDto("Databases", "IT", 60),
+                new CourseDto("Algebra", "Mathematics", 20),
+                new CourseDto("Databases", "IT", 70),
+                new CourseDto(" ", "IT", 10)));
+
+        assertEquals(List.of(BulkUpsertResultDto.Outcome.UNCHANGED, BulkUpsertResultDto.Outcome.UPDATED,
+                        BulkUpsertResultDto.Outcome.CREATED, BulkUpsertResultDto.Outcome.REJECTED,
+                        BulkUpsertResultDto.Outcome.REJECTED),
+                report.getResults().stream().map(BulkUpsertResultDto::getOutcome).toList());
+        assertEquals(3L, report.getResults().get(2).getCourseId());
+        assertEquals(2, report.getRejected());
+        verify(courseRepository).updateAllInBatches(argThat(updated ->
+                updated.size() == 1 && updated.get(0).getCourseId() == 2L && updated.get(0).getCapacity() == 60));
+        verify(catalogVersionSequence, times(1)).bump();
+        assertEquals(List.of(3L), courseSearchIndex.search("algebra", 10));
+    }
+
+    @Test
+    void bulkUpsertCourses_EmptyList_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> courseService.bulkUpsertCourses(List.of()));
+    }
+
+    @Test
+    void updateCourse_NotFound_KeepsCatalogVersion() {
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(null);
+        courseService.updateCourse(courseDto);
+        verifyNoInteractions(catalogVersionSequence);
+    }
+
+    @Test
+    void reserveSeat_NoSeatsLeft_KeepsCatalogVersion() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.reserveSeat(1L)).thenReturn(0);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+
+        courseService.reserveSeat("Java Programming");
+
+        verify(catalogVersionSequence, never()).bump();
+    }
+
+    @Test
+    void getCatalogVersion_ReadsSequence() {
+        when(catalogVersionSequence.current()).thenReturn(7L);
+        assertEquals(7L, courseService.getCatalogVersion());
     }
 
     @Test
@@ -66,9 +172,10 @@ class CourseServiceTest {
 
     @Test
     void getAllCourses_ReturnsList() {
-        when(courseRepository.findAll()).thenReturn(List.of(course));
+        when(courseRepository.findAllCourseDtos()).thenReturn(List.of(courseDto));
         List<CourseDto> result = courseService.getAllCourses();
         assertEquals(1, result.size());
+        verify(courseRepository, never()).findAll();
     }
 
     @Test
@@ -78,6 +185,22 @@ class CourseServiceTest {
         assertTrue(result.isPresent());
     }
 
+    @Test
+    void getCourseTitlesByIds_ReturnsTitlesOfFoundCourses() {
+        course.setCourseId(1L);
+        when(courseRepository.findAllByCourseIdIn(List.of(1L, 2L))).thenReturn(views(course));
+        Map<Long, String> result = courseService.getCourseTitlesByIds(List.of(1L, 2L));
+        assertEquals(Map.of(1L, "Java Programming"), result);
+    }
+
+    @Test
+    void getCourseIdsByTitles_ReturnsIdsOfFoundCourses() {
+        course.setCourseId(1L);
+        when(courseRepository.findAllByTitleIn(List.of("Java Programming", "Unknown"))).thenReturn(views(course));
+        Map<String, Long> result = courseService.getCourseIdsByTitles(List.of("Java Programming", "Unknown"));
+        assertEquals(Map.of("Java Programming", 1L), result);
+    }
+
     @Test
     void updateCourse_Success() {
         when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
@@ -98,33 +221,112 @@ class CourseServiceTest {
         verify(courseRepository).delete(course);
     }
 
+    @Test
+    void deleteCourse_NotifiesEnrollments() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+
+        assertTrue(courseService.deleteCourse("Java Programming"));
+
+        verify(enrollmentsFeignClient).removeCourse(1L);
+    }
+
+    @Test
+    void deleteCourse_EnrollmentsUnavailable_StillDeletes() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(enrollmentsFeignClient.removeCourse(1L)).thenThrow(new RuntimeException("enrollments down"));
+
+        assertTrue(courseService.deleteCourse("Java Programming"));
+        verify(courseRepository).delete(course);
+    }
+
     @Test
     void getCoursesByDepartment_Success() {
-        when(courseRepository.findCourseByDepartment("IT")).thenReturn(List.of(course));
+        when(courseRepository.findCourseDtosByDepartment("IT")).thenReturn(List.of(courseDto));
         assertFalse(courseService.getCoursesByDepartment("IT").isEmpty());
     }
 
     @Test
     void getCoursesByDepartment_ThrowsException_WhenEmpty() {
-        when(courseRepository.findCourseByDepartment("None")).thenReturn(Collections.emptyList());
+        when(courseRepository.findCourseDtosByDepartment("None")).thenReturn(Collections.emptyList());
         assertThrows(RuntimeException.class, () -> courseService.getCoursesByDepartment("None"));
     }
 
     @Test
-    void updateCapacityOfCourse_Success() {
+    void getCoursesByDepartment_AfterRefresh_ServedFromIndex() {
+        course.setCourseId(1L);
+        when(courseRepository.findAllProjectedByOrderByCourseId()).thenReturn(views(course));
+
+        courseService.refreshDepartmentIndex();
+
+        List<CourseDto> courses = courseService.getCoursesByDepartment("IT");
+        assertEquals(1, courses.size());
+        assertEquals("Java Programming", courses.get(0).getTitle());
+        assertThrows(RuntimeException.class, () -> courseService.getCoursesByDepartment("None"));
+        verify(courseRepository, never()).findCourseDtosByDepartment(anyString());
+    }
+
+    @Test
+    void updateCourse_MovesCourseInDepartmentIndex() {
+        course.setCourseId(1L);
+        when(courseRepository.findAllProjectedByOrderByCourseId()).thenReturn(views(course));
+        courseService.refreshDepartmentIndex();
         when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.findAllByCourseIdIn(Set.of(1L)))
+                .thenReturn(views(new Course(1L, "Java Programming", "Mathematics", 30)));
+
+        courseDto.setDepartment("Mathematics");
+        assertTrue(courseService.updateCourse(courseDto));
+
+        assertEquals(1, courseService.getCoursesByDepartment("Mathematics").size());
+        assertThrows(RuntimeException.class, () -> courseService.getCoursesByDepartment("IT"));
+    }
+
+    @Test
+    void getDepartmentSummaries_ReturnsGroupedTotals() {
+        DepartmentSummaryDto summary = new DepartmentSummaryDto("IT", 2L, 50L, 45L);
+        when(courseRepository.summarizeDepartments()).thenReturn(List.of(summary));
+        assertEquals(List.of(summary), courseService.getDepartmentSummaries());
+    }
+
+    @Test
+    void updateCapacityOfCourse_Success() {
+        when(courseRepository.updateCapacityByTitle("Java Programming", 50)).thenReturn(1);
         assertTrue(courseService.updateCapacityOfCourse(50, "Java Programming"));
-        assertEquals(50, course.getCapacity());
+        verify(courseRepository, never()).save(any(Course.class));
+    }
+
+    @Test
+    void updateCapacityOfCourse_EvictsCourseById() {
+        course.setCourseId(1L);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        courseService.getCourseById(1L);
+        when(courseRepository.updateCapacityByTitle("Java Programming", 50)).thenReturn(1);
+
+        assertTrue(courseService.updateCapacityOfCourse(50, "Java Programming"));
+
+        verify(courseLookupCache).evict(1L, "Java Programming");
+        course.setCapacity(50);
+        assertEquals(50, courseService.getCourseById(1L).orElseThrow().getCapacity());
+        verify(courseRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void updateCapacityOfCourse_NotFound() {
+        when(courseRepository.updateCapacityByTitle("Unknown", 50)).thenReturn(0);
+        assertFalse(courseService.updateCapacityOfCourse(50, "Unknown"));
     }
 
     @Test
     void updateCapacityOfCourse_NegativeCapacity_ReturnsFalse() {
         assertFalse(courseService.updateCapacityOfCourse(-10, "Java Programming"));
+        verify(courseRepository, never()).updateCapacityByTitle(anyString(), anyInt());
     }
 
     @Test
     void getCoursesAvailable_ThrowsException_WhenNone() {
-        when(courseRepository.findCourseAvailable()).thenReturn(Collections.emptyList());
+        when(courseRepository.findAvailableCourseDtos()).thenReturn(Collections.emptyList());
         assertThrows(RuntimeException.class, () -> courseService.getCoursesAvailable());
     }
 
@@ -136,9 +338,288 @@ class CourseServiceTest {
 
     @Test
     void updateCourseCapacityBasedOnStudentCount_Success() {
-        when(studentsFeignClient.getStudentsByMajor("IT")).thenReturn(List.of(new ExternalStudentDTO(), new ExternalStudentDTO()));
+        course.setCourseId(1L);
+        when(studentsFeignClient.countStudentsByMajor("IT")).thenReturn(2L);
         when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.updateCapacityByTitle("Java Programming", 2)).thenReturn(1);
         assertTrue(courseService.updateCourseCapacityBasedOnStudentCount("Java Programming", "IT"));
-        assertEquals(2, course.getCapacity());
+        verify(studentsFeignClient, never()).getStudentsByMajor(anyString());
+        verify(courseLookupCache).evict(1L, "Java Programming");
+    }
+
+    @Test
+    void updateCourseCapacityBasedOnStudentCount_CountUnavailable() {
+        when(studentsFeignClient.countStudentsByMajor("IT")).thenReturn(null);
+        assertFalse(courseService.updateCourseCapacityBasedOnStudentCount("Java Programming", "IT"));
+        verify(courseRepository, never()).updateCapacityByTitle(anyString(), anyInt());
+    }
+
+    @Test
+    void syncAllCourseCapacitiesWithStudentCounts_ReportsChangedCourses() {
+        Course unchanged = new Course(1L, "Java Programming", "IT", 2);
+        Course grown = new Course(2L, "Calculus", "Math", 10);
+        Course emptied = new Course(3L, "Latin", "Classics", 5);
+        when(studentsFeignClient.countStudentsPerMajor()).thenReturn(Map.of("IT", 2L, "Math", 40L));
+        when(courseRepository.findAll(Sort.by("courseId"))).thenReturn(List.of(unchanged, grown, emptied));
+
+        CapacitySyncReportDto report = courseService.syncAllCourseCapacitiesWithStudentCounts();
+
+        assertEquals(3, report.getCoursesChecked());
+        assertEquals(2, report.getCoursesChanged());
+        assertEquals("Calculus", report.getChanges().get(0).getTitle());
+        assertEquals(10, report.getChanges().get(0).getPreviousCapacity());
+        assertEquals(40, grown.getCapacity());
+        assertEquals(0, emptied.getCapacity());
+        verify(studentsFeignClient, times(1)).countStudentsPerMajor();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void syncAllCourseCapacitiesWithStudentCounts_CountsUnavailable() {
+        when(studentsFeignClient.countStudentsPerMajor()).thenReturn(null);
+        assertThrows(IllegalStateException.class, () -> courseService.syncAllCourseCapacitiesWithStudentCounts());
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void getFullCourseByTitle_ServedFromCache() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+
+        courseService.getFullCourseByTitle("Java Programming");
+        Optional<FullCourseDto> result = courseService.getFullCourseByTitle("Java Programming");
+        Optional<CourseDto> byId = courseService.getCourseById(1L);
+
+        assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getId());
+        assertTrue(byId.isPresent());
+        verify(courseRepository, times(1)).findByTitle("Java Programming");
+        verify(courseRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getFullCourseByTitle_NotFoundIsNotCached() {
+        when(courseRepository.findByTitle("Unknown")).thenReturn(null);
+
+        assertTrue(courseService.getFullCourseByTitle("Unknown").isEmpty());
+        assertTrue(courseService.getFullCourseByTitle("Unknown").isEmpty());
+
+        verify(courseRepository, times(2)).findByTitle("Unknown");
+    }
+
+    @Test
+    void updateCapacityOfCourse_EvictsCachedCourse() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+
+        when(courseRepository.updateCapacityByTitle("Java Programming", 50)).thenReturn(1);
+
+        courseService.getFullCourseByTitle("Java Programming");
+        courseService.updateCapacityOfCourse(50, "Java Programming");
+        course.setCapacity(50);
+        Optional<FullCourseDto> result = courseService.getFullCourseByTitle("Java Programming");
+
+        assertEquals(50, result.get().getCapacity());
+        verify(courseRepository, times(2)).findByTitle("Java Programming");
+    }
+
+    @Test
+    void deleteCourse_EvictsCachedCourse() {
+        course.setCourseId(1L);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+
+        courseService.getCourseById(1L);
+        courseService.deleteCourse("Java Programming");
+        when(courseRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(courseService.getCourseById(1L).isEmpty());
+        verify(courseRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void reserveSeat_Success() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.reserveSeat(1L)).thenReturn(1);
+
+        assertTrue(courseService.reserveSeat("Java Programming"));
+        verify(courseLookupCache).evict(1L, "Java Programming");
+        verify(catalogVersionSequence).bump();
+    }
+
+    @Test
+    void reserveSeat_NoSeatsLeft() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.reserveSeat(1L)).thenReturn(0);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+
+        assertFalse(courseService.reserveSeat("Java Programming"));
+    }
+
+    @Test
+    void reserveSeat_CourseNotFound() {
+        when(courseRepository.findByTitle("Unknown")).thenReturn(null);
+
+        assertThrows(NoSuchElementException.class, () -> courseService.reserveSeat("Unknown"));
+        verify(courseRepository, never()).reserveSeat(anyLong());
+    }
+
+    @Test
+    void reserveSeat_CourseDeletedWhileCached() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.reserveSeat(1L)).thenReturn(0);
+        when(courseRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(NoSuchElementException.class, () -> courseService.reserveSeat("Java Programming"));
+    }
+
+    @Test
+    void releaseSeat_Success() {
+        course.setCourseId(1L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        when(courseRepository.releaseSeat(1L)).thenReturn(1);
+
+        courseService.releaseSeat("Java Programming");
+
+        verify(courseRepository).releaseSeat(1L);
+    }
+
+    @Test
+    void getCoursesPage_CountsTotal() {
+        when(courseRepository.findAllProjectedBy(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(views(course), invocation.getArgument(0), 3));
+
+        CoursePageDto result = courseService.getCoursesPage(PageRequest.of(0, 1, Sort.by("capacity")), false);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(3L, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertTrue(result.isHasNext());
+        verify(courseRepository).findAllProjectedBy(PageRequest.of(0, 1, Sort.by("capacity").and(Sort.by("courseId"))));
+    }
+
+    @Test
+    void getCoursesPage_SliceSkipsCount() {
+        when(courseRepository.findSliceBy(any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<>(views(course), invocation.getArgument(0), false));
+
+        CoursePageDto result = courseService.getCoursesPage(PageRequest.of(2, 10), true);
+
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        assertEquals(2, result.getPage());
+        assertFalse(result.isHasNext());
+        verify(courseRepository, never()).findAllProjectedBy(any(Pageable.class));
+    }
+
+    @Test
+    void getCoursesPage_UnknownSortProperty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> courseService.getCoursesPage(PageRequest.of(0, 10, Sort.by("password")), false));
+    }
+
+    @Test
+    void getAvailableCoursesPage_FiltersByCapacity() {
+        when(courseRepository.findByCapacityGreaterThan(eq(0), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(views(course), invocation.getArgument(1), 1));
+
+        CoursePageDto result = courseService.getAvailableCoursesPage(PageRequest.of(0, 10), false);
+
+        assertEquals(1L, result.getTotalElements());
+    }
+
+    @Test
+    void getCoursesAfter_ReturnsCursorOfLastCourse() {
+        Course second = new Course(2L, "Databases", "IT", 20);
+        Course third = new Course(3L, "Networks", "IT", 10);
+        course.setCourseId(1L);
+        when(courseRepository.findAfterId(0L, PageRequest.of(0, 3))).thenReturn(views(course, second, third));
+
+        CoursePageDto result = courseService.getCoursesAfter(null, 2);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals("2", new String(Base64.getUrlDecoder().decode(result.getNext())));
+    }
+
+    @Test
+    void getCoursesSortedByCapacityAfter_DecodesCursor() {
+        String after = Base64.getUrlEncoder().withoutPadding().encodeToString("20:2".getBytes());
+        Course next = new Course(3L, "Networks", "IT", 25);
+        when(courseRepository.findAfterCapacity(20, 2L, PageRequest.of(0, 11))).thenReturn(views(next));
+
+        CoursePageDto result = courseService.getCoursesSortedByCapacityAfter(after, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void getCoursesAfter_InvalidCursorOrSize() {
+        assertThrows(IllegalArgumentException.class, () -> courseService.getCoursesAfter("not a cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> courseService.getCoursesAfter(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> courseService.getCoursesAfter(null, 501));
+    }
+
+    @Test
+    void getCoursesSortedByCapacity_ReturnsProjection() {
+        when(courseRepository.findCourseDtosOrderByCapacity()).thenReturn(List.of(courseDto));
+        assertEquals(List.of(courseDto), courseService.getCoursesSortedByCapacity());
+    }
+
+    @Test
+    void searchCourses_ReturnsCoursesInRankOrder() {
+        Course javaScript = new Course(2L, "JavaScript", "IT", 20);
+        course.setCourseId(1L);
+        courseSearchIndex.put(1L, "Java Programming");
+        courseSearchIndex.put(2L, "JavaScript");
+        courseSearchIndex.put(3L, "Databases");
+        when(courseRepository.findAllByCourseIdIn(List.of(2L, 1L))).thenReturn(views(course, javaScript));
+
+        List<CourseDto> result = courseService.searchCourses("javascr", 10);
+
+        assertEquals(List.of("JavaScript", "Java Programming"), result.stream().map(CourseDto::getTitle).toList());
+    }
+
+    @Test
+    void searchCourses_InvalidQueryOrLimit() {
+        assertThrows(IllegalArgumentException.class, () -> courseService.searchCourses(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> courseService.searchCourses("java", 0));
+        assertThrows(IllegalArgumentException.class, () -> courseService.searchCourses("java", 101));
+    }
+
+    @Test
+    void addAndDeleteCourse_KeepSearchIndexUpToDate() {
+        when(courseRepository.save(any(Course.class))).thenAnswer(invocation -> {
+            invocation.<Course>getArgument(0).setCourseId(9L);
+            return invocation.getArgument(0);
+        });
+        courseService.addCourse(courseDto);
+        assertEquals(List.of(9L), courseSearchIndex.search("java prog", 10));
+
+        course.setCourseId(9L);
+        when(courseRepository.findByTitle("Java Programming")).thenReturn(course);
+        courseService.deleteCourse("Java Programming");
+        assertTrue(courseSearchIndex.search("java prog", 10).isEmpty());
+    }
+
+    @Test
+    void refreshSearchIndex_LoadsAllTitles() {
+        course.setCourseId(1L);
+        when(courseRepository.findAllProjectedByOrderByCourseId()).thenReturn(views(course));
+
+        courseService.refreshSearchIndex();
+
+        assertEquals(List.of(1L), courseSearchIndex.search("java", 10));
+    }
+
+    private static List<CourseView> views(Course... courses) {
+        return Arrays.stream(courses)
+                .map(course -> PROJECTIONS.createProjection(CourseView.class, course))
+                .toList();
     }
-}
\ No newline at end of file
+}
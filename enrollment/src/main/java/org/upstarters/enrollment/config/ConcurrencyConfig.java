@@ -0,0 +1,25 @@
+package org.upstarters.enrollment.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+
+@Configuration
+public class ConcurrencyConfig {
+
+    /**
+     * Executor for remote calls that are fanned out in parallel.
+     * Starts one virtual thread per call and carries the caller's tracing context over,
+     * so Feign requests made on it stay part of the same trace.
+     */
+    @Bean(name = "remoteCallExecutor", destroyMethod = "close")
+    public ExecutorService remoteCallExecutor() {
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        return ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(), snapshotFactory::captureAll);
+    }
+}
@@ -0,0 +1,37 @@
+package org.upstarters.enrollment.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.upstarters.enrollment.entity.Enrollment;
+
+/**
+ * Moves the enrollment id sequence past the highest existing id on startup.
+ * Enrollment ids used to come from an identity column; rows created that way are not
+ * known to the sequence that now backs the pooled id generator, so without this step
+ * the first allocated block could collide with existing rows. The sequence is never
+ * moved backwards.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class EnrollmentSequenceInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    EnrollmentSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.queryForObject(
+                "select setval('" + Enrollment.ID_SEQUENCE + "', greatest("
+                        + "(select coalesce(max(id), 1) from enrollments), "
+                        + "(select last_value from " + Enrollment.ID_SEQUENCE + ")))",
+                Long.class);
+    }
+}
@@ -0,0 +1,38 @@
+package org.upstarters.enrollment.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.upstarters.enrollment.service.statistics.GradeStatisticsService;
+
+/**
+ * Rebuilds the per-course grade summary table on startup and periodically afterwards.
+ * The table is maintained incrementally while the service runs; rebuilding it on
+ * startup picks up enrollments written before the table existed or by other means,
+ * and the periodic rebuild corrects any drift without waiting for a restart.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class GradeStatisticsInitializer implements ApplicationRunner {
+
+    private final GradeStatisticsService gradeStatisticsService;
+
+    GradeStatisticsInitializer(GradeStatisticsService gradeStatisticsService) {
+        this.gradeStatisticsService = gradeStatisticsService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        gradeStatisticsService.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${enrollment.grade-statistics.rebuild-interval:6h}",
+            fixedDelayString = "${enrollment.grade-statistics.rebuild-interval:6h}")
+    public void scheduledRebuild() {
+        gradeStatisticsService.rebuild();
+    }
+}
@@ -2,21 +2,36 @@ package org.upstarters.enrollment.controller;
 
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.upstarters.enrollment.dto.CourseGradeStatsDTO;
+import org.upstarters.enrollment.dto.CourseTitleReconciliationDTO;
+import org.upstarters.enrollment.dto.EnrollmentBulkResponseDTO;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
+import org.upstarters.enrollment.dto.EnrollmentPageDTO;
 import org.upstarters.enrollment.dto.EnrollmentRequestDTO;
 import org.upstarters.enrollment.dto.EnrollmentUpdateDTO;
 import org.upstarters.enrollment.entity.Enrollment;
 import org.upstarters.enrollment.mapper.EnrollmentMapper;
 import org.upstarters.enrollment.service.enrollment.EnrollmentService;
 import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.coursetitle.CourseTitleService;
+import org.upstarters.enrollment.service.statistics.GradeStatisticsService;
 import org.upstarters.enrollment.service.student.StudentAPIService;
 import org.upstarters.enrollment.dto.StudentDTO;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/enrollments")
@@ -24,11 +39,23 @@ public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
     private final EnrollmentMapper enrollmentMapper;
+    private final GradeStatisticsService gradeStatisticsService;
+    private final CourseAPIService courseAPIService;
+    private final CourseTitleService courseTitleService;
+    private final ObjectWriter ndjsonWriter;
 
     EnrollmentController( EnrollmentService enrollmentServiceInstance,
-                          EnrollmentMapper enrollmentMapperInstance) {
+                          EnrollmentMapper enrollmentMapperInstance,
+                          GradeStatisticsService gradeStatisticsServiceInstance,
+                          CourseAPIService courseAPIServiceInstance,
+                          CourseTitleService courseTitleServiceInstance,
+                          ObjectMapper objectMapperInstance) {
         enrollmentService = enrollmentServiceInstance;
         enrollmentMapper = enrollmentMapperInstance;
+        gradeStatisticsService = gradeStatisticsServiceInstance;
+        courseAPIService = courseAPIServiceInstance;
+        courseTitleService = courseTitleServiceInstance;
+        ndjsonWriter = objectMapperInstance.writerFor(EnrollmentDTO.class);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
@@ -54,18 +81,73 @@ public class EnrollmentController {
         return new ResponseEntity<>("Enrollment created successfully", HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EnrollmentBulkResponseDTO> bulkCreateEnrollments(@RequestBody List<EnrollmentRequestDTO> enrollments) {
+        try {
+            return ResponseEntity.ok(enrollmentService.bulkEnroll(enrollments));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<EnrollmentBulkResponseDTO> bulkCreateEnrollmentsFromCsv(InputStream csv) {
+        try {
+            return ResponseEntity.ok(enrollmentService.bulkEnrollFromCsv(csv));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
     @GetMapping("/all")
     public ResponseEntity<List<EnrollmentDTO>> getAllEnrollments() {
         List<Enrollment> enrollments = enrollmentService.getAllEnrollments();
 
-        List<EnrollmentDTO> enrollmentDTOs = enrollments.stream()
-                .map(enrollmentMapper::toDto)
-                .collect(Collectors.toList());
+        List<EnrollmentDTO> enrollmentDTOs = enrollmentMapper.toDtoList(enrollments);
 
         return new ResponseEntity<>(enrollmentDTOs, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @GetMapping("/all/page")
+    public ResponseEntity<EnrollmentPageDTO> getEnrollmentsPage(
+            @RequestParam(required = false) String next,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(enrollmentService.getEnrollmentsPage(next, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @GetMapping("/all/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllEnrollments() {
+        StreamingResponseBody body = outputStream -> enrollmentService.streamAllEnrollments(
+                chunk -> writeNdjson(outputStream, chunk));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeNdjson(OutputStream outputStream, List<EnrollmentDTO> chunk) {
+        try {
+            for (EnrollmentDTO enrollment : chunk) {
+                outputStream.write(ndjsonWriter.writeValueAsBytes(enrollment));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
     @GetMapping("/enrollment/{id}")
     public ResponseEntity<EnrollmentDTO> getEnrollmentById(@Valid @PathVariable Long id) {
@@ -118,18 +200,55 @@ public class EnrollmentController {
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/students/failed")
-    public ResponseEntity<List<EnrollmentDTO>> getStudentsWithFailingGrades() {
+    public ResponseEntity<List<EnrollmentDTO>> getStudentsWithFailingGrades(
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(required = false) String course) {
 
         List<EnrollmentDTO> enrollments = new ArrayList<EnrollmentDTO>();
 
         try {
-            enrollments = enrollmentService.failingStudents();
+            enrollments = enrollmentService.failingStudents(failingThreshold(threshold), course);
         } catch (Exception e){
             return ResponseEntity.notFound().build();
         }
         return ResponseEntity.ok(enrollments);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/students/failed/page")
+    public ResponseEntity<EnrollmentPageDTO> getStudentsWithFailingGradesPage(
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(required = false) String course,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(enrollmentService.getFailingStudentsPage(failingThreshold(threshold), course, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/students/failed/stream")
+    public ResponseEntity<StreamingResponseBody> streamStudentsWithFailingGrades(
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(required = false) String course) {
+        if (course != null && !course.isEmpty() && courseAPIService.getCourseIdByName(course) == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody body = outputStream -> enrollmentService.streamFailingStudents(
+                failingThreshold(threshold), course, chunk -> writeNdjson(outputStream, chunk));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private static double failingThreshold(Double threshold) {
+        return threshold != null ? threshold : GradeStatisticsService.PASSING_GRADE;
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/course/{course}/top5")
     public ResponseEntity<List<EnrollmentDTO>> getTop5StudentsInCourse(@Valid @PathVariable String course) {
@@ -145,6 +264,67 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollments);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/course/{course}/top")
+    public ResponseEntity<List<EnrollmentDTO>> getTopStudentsInCourse(
+            @Valid @PathVariable String course,
+            @RequestParam(defaultValue = "5") int n) {
+
+        List<EnrollmentDTO> enrollments = new ArrayList<EnrollmentDTO>();
+
+        try {
+            enrollments = enrollmentService.getTopInCourse(course, n);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(enrollments);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/course/{course}/stats")
+    public ResponseEntity<CourseGradeStatsDTO> getCourseStatistics(@Valid @PathVariable String course) {
+        try {
+            return ResponseEntity.ok(gradeStatisticsService.getCourseStatistics(course));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/courses/stats")
+    public ResponseEntity<List<CourseGradeStatsDTO>> getAllCourseStatistics() {
+        return ResponseEntity.ok(gradeStatisticsService.getAllCourseStatistics());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/courses/{courseId}/title")
+    public ResponseEntity<Integer> renameCourse(@PathVariable Long courseId, @RequestParam String title) {
+        try {
+            return ResponseEntity.ok(courseTitleService.renameCourse(courseId, title));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/courses/{courseId}/title")
+    public ResponseEntity<Integer> removeCourse(@PathVariable Long courseId) {
+        return ResponseEntity.ok(courseTitleService.removeCourse(courseId));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/courses/titles/reconcile")
+    public ResponseEntity<CourseTitleReconciliationDTO> reconcileCourseTitles() {
+        try {
+            return ResponseEntity.ok(courseTitleService.reconcile());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     // =====> Endpoints using other services <=====
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
@@ -0,0 +1,81 @@
+package org.upstarters.enrollment.dto;
+
+public class CourseGradeStatsDTO {
+
+    private String course;
+    private long enrollmentCount;
+    private Double mean;
+    private Double min;
+    private Double max;
+    private Double median;
+    private Double passRate;
+
+    public CourseGradeStatsDTO(String course, long enrollmentCount, Double mean, Double min, Double max, Double median, Double passRate) {
+        this.course = course;
+        this.enrollmentCount = enrollmentCount;
+        this.mean = mean;
+        this.min = min;
+        this.max = max;
+        this.median = median;
+        this.passRate = passRate;
+    }
+
+    public CourseGradeStatsDTO() {
+    }
+
+    public String getCourse() {
+        return course;
+    }
+
+    public void setCourse(String course) {
+        this.course = course;
+    }
+
+    public long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    public void setEnrollmentCount(long enrollmentCount) {
+        this.enrollmentCount = enrollmentCount;
+    }
+
+    public Double getMean() {
+        return mean;
+    }
+
+    public void setMean(Double mean) {
+        this.mean = mean;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public void setMin(Double min) {
+        this.min = min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public Double getMedian() {
+        return median;
+    }
+
+    public void setMedian(Double median) {
+        this.median = median;
+    }
+
+    public Double getPassRate() {
+        return passRate;
+    }
+
+    public void setPassRate(Double passRate) {
+        this.passRate = passRate;
+    }
+}
@@ -0,0 +1,41 @@
+package org.upstarters.enrollment.dto;
+
+public class CourseTitleReconciliationDTO {
+
+    private int checkedCourses;
+    private int updatedEnrollments;
+    private int missingCourses;
+
+    public CourseTitleReconciliationDTO(int checkedCourses, int updatedEnrollments, int missingCourses) {
+        this.checkedCourses = checkedCourses;
+        this.updatedEnrollments = updatedEnrollments;
+        this.missingCourses = missingCourses;
+    }
+
+    public CourseTitleReconciliationDTO() {
+    }
+
+    public int getCheckedCourses() {
+        return checkedCourses;
+    }
+
+    public void setCheckedCourses(int checkedCourses) {
+        this.checkedCourses = checkedCourses;
+    }
+
+    public int getUpdatedEnrollments() {
+        return updatedEnrollments;
+    }
+
+    public void setUpdatedEnrollments(int updatedEnrollments) {
+        this.updatedEnrollments = updatedEnrollments;
+    }
+
+    public int getMissingCourses() {
+        return missingCourses;
+    }
+
+    public void setMissingCourses(int missingCourses) {
+        this.missingCourses = missingCourses;
+    }
+}
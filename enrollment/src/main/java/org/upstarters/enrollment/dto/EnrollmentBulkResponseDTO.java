@@ -0,0 +1,53 @@
+package org.upstarters.enrollment.dto;
+
+import java.util.List;
+
+public class EnrollmentBulkResponseDTO {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<EnrollmentBulkResultDTO> results;
+
+    public EnrollmentBulkResponseDTO(List<EnrollmentBulkResultDTO> results) {
+        this.results = results;
+        this.total = results.size();
+        this.created = (int) results.stream().filter(EnrollmentBulkResultDTO::isSuccess).count();
+        this.failed = this.total - this.created;
+    }
+
+    public EnrollmentBulkResponseDTO() {
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<EnrollmentBulkResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<EnrollmentBulkResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,61 @@
+package org.upstarters.enrollment.dto;
+
+public class EnrollmentBulkResultDTO {
+
+    private int row;
+    private String studentEmail;
+    private String courseName;
+    private boolean success;
+    private String message;
+
+    public EnrollmentBulkResultDTO(int row, String studentEmail, String courseName, boolean success, String message) {
+        this.row = row;
+        this.studentEmail = studentEmail;
+        this.courseName = courseName;
+        this.success = success;
+        this.message = message;
+    }
+
+    public EnrollmentBulkResultDTO() {
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    public void setStudentEmail(String studentEmail) {
+        this.studentEmail = studentEmail;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,33 @@
+package org.upstarters.enrollment.dto;
+
+import java.util.List;
+
+public class EnrollmentPageDTO {
+
+    private List<EnrollmentDTO> items;
+    private String next;
+
+    public EnrollmentPageDTO(List<EnrollmentDTO> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public EnrollmentPageDTO() {
+    }
+
+    public List<EnrollmentDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EnrollmentDTO> items) {
+        this.items = items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+}
@@ -0,0 +1,92 @@
+package org.upstarters.enrollment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity()
+@Table(name = "course_grade_stats")
+public class CourseGradeStats {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "enrollment_count", nullable = false)
+    private long enrollmentCount;
+
+    @Column(name = "grade_sum", nullable = false)
+    private double gradeSum;
+
+    @Column(name = "passing_count", nullable = false)
+    private long passingCount;
+
+    @Column(name = "min_grade")
+    private Double minGrade;
+
+    @Column(name = "max_grade")
+    private Double maxGrade;
+
+
+    public CourseGradeStats(Long courseId, long enrollmentCount, double gradeSum, long passingCount, Double minGrade, Double maxGrade) {
+        this.courseId = courseId;
+        this.enrollmentCount = enrollmentCount;
+        this.gradeSum = gradeSum;
+        this.passingCount = passingCount;
+        this.minGrade = minGrade;
+        this.maxGrade = maxGrade;
+    }
+
+    public CourseGradeStats() {
+    }
+
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    public void setEnrollmentCount(long enrollmentCount) {
+        this.enrollmentCount = enrollmentCount;
+    }
+
+    public double getGradeSum() {
+        return gradeSum;
+    }
+
+    public void setGradeSum(double gradeSum) {
+        this.gradeSum = gradeSum;
+    }
+
+    public long getPassingCount() {
+        return passingCount;
+    }
+
+    public void setPassingCount(long passingCount) {
+        this.passingCount = passingCount;
+    }
+
+    public Double getMinGrade() {
+        return minGrade;
+    }
+
+    public void setMinGrade(Double minGrade) {
+        this.minGrade = minGrade;
+    }
+
+    public Double getMaxGrade() {
+        return maxGrade;
+    }
+
+    public void setMaxGrade(Double maxGrade) {
+        this.maxGrade = maxGrade;
+    }
+}
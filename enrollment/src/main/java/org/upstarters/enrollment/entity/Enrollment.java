@@ -7,14 +7,26 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity()
-@Table(name = "enrollments")
+@Table(name = "enrollments", indexes = {
+        @Index(name = "idx_enrollments_course_grade", columnList = "course_id, grade desc, id"),
+        @Index(name = "idx_enrollments_grade", columnList = "grade")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_enrollments_student_course", columnNames = {"student_email", "course_id"})
+})
 public class Enrollment {
 
+    public static final String ID_SEQUENCE = "enrollments_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollments_id_generator")
+    @SequenceGenerator(name = "enrollments_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id", unique = true)
     private Long id;
 
@@ -24,6 +36,12 @@ public class Enrollment {
     @Column(name = "course_id")
     private Long courseId;
 
+    @Column(name = "course_title")
+    private String courseTitle;
+
+    @Column(name = "course_removed")
+    private Boolean courseRemoved;
+
     @Column(name="enrollment_date")
     private LocalDate enrollmentDate;
 
@@ -66,6 +84,22 @@ public class Enrollment {
         this.courseId = courseId;
     }
 
+    public String getCourseTitle() {
+        return courseTitle;
+    }
+
+    public void setCourseTitle(String courseTitle) {
+        this.courseTitle = courseTitle;
+    }
+
+    public Boolean getCourseRemoved() {
+        return courseRemoved;
+    }
+
+    public void setCourseRemoved(Boolean courseRemoved) {
+        this.courseRemoved = courseRemoved;
+    }
+
     public LocalDate getEnrollmentDate() {
         return enrollmentDate;
     }
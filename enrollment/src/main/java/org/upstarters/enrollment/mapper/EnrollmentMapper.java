@@ -1,10 +1,18 @@
 package org.upstarters.enrollment.mapper;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Component;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
 import org.upstarters.enrollment.entity.Enrollment;
+import org.upstarters.enrollment.repository.EnrollmentView;
 import org.upstarters.enrollment.service.course.CourseAPIService;
 
 @Component
@@ -18,19 +26,87 @@ public class EnrollmentMapper {
         this.courseAPIService = courseAPIService;
     }
 
+    /**
+     * Maps a single enrollment. The course name is taken from the title stored on the
+     * enrollment; only rows written before titles were stored fall back to a remote lookup.
+     * Enrollments of removed courses have no course name.
+     */
     public EnrollmentDTO toDto(Enrollment enrollment) {
         if (enrollment == null) {
             return null;
         }
 
-        String courseName = courseAPIService.getCourseNameById(enrollment.getCourseId());
-        String formattedDate = enrollment.getEnrollmentDate() != null ? enrollment.getEnrollmentDate().format(DATE_FORMATTER) : null;
+        String courseName = enrollment.getCourseTitle() != null || Boolean.TRUE.equals(enrollment.getCourseRemoved())
+                ? enrollment.getCourseTitle()
+                : courseAPIService.getCourseNameById(enrollment.getCourseId());
+        return toDto(enrollment, courseName);
+    }
+
+    /**
+     * Maps a whole result set locally from the stored course titles. Course names missing
+     * from older rows are resolved with one remote call for their distinct course IDs
+     * instead of one call per enrollment.
+     */
+    public List<EnrollmentDTO> toDtoList(List<Enrollment> enrollments) {
+        if (enrollments == null || enrollments.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> courseNames = resolveMissingTitles(enrollments.stream()
+                .filter(enrollment -> enrollment.getCourseTitle() == null && !Boolean.TRUE.equals(enrollment.getCourseRemoved()))
+                .map(Enrollment::getCourseId));
+
+        return enrollments.stream()
+                .map(enrollment -> toDto(enrollment, courseName(enrollment.getCourseId(), enrollment.getCourseTitle(),
+                        enrollment.getCourseRemoved(), courseNames)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Same as {@link #toDtoList(List)} for rows read through the {@link EnrollmentView} projection.
+     */
+    public List<EnrollmentDTO> viewsToDtoList(List<? extends EnrollmentView> views) {
+        if (views == null || views.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> courseNames = resolveMissingTitles(views.stream()
+                .filter(view -> view.getCourseTitle() == null && !Boolean.TRUE.equals(view.getCourseRemoved()))
+                .map(EnrollmentView::getCourseId));
+
+        return views.stream()
+                .map(view -> toDto(view.getStudentEmail(), view.getEnrollmentDate(), view.getGrade(),
+                        courseName(view.getCourseId(), view.getCourseTitle(), view.getCourseRemoved(), courseNames)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, String> resolveMissingTitles(Stream<Long> courseIds) {
+        Set<Long> missingCourseIds = courseIds
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return missingCourseIds.isEmpty() ? Map.of() : courseAPIService.getCourseNamesByIds(missingCourseIds);
+    }
+
+    private static String courseName(Long courseId, String courseTitle, Boolean courseRemoved, Map<Long, String> courseNames) {
+        if (courseTitle != null || Boolean.TRUE.equals(courseRemoved)) {
+            return courseTitle;
+        }
+        return courseId != null ? courseNames.get(courseId) : null;
+    }
+
+    private EnrollmentDTO toDto(Enrollment enrollment, String courseName) {
+        return toDto(enrollment.getStudentEmail(), enrollment.getEnrollmentDate(), enrollment.getGrade(), courseName);
+    }
+
+    private EnrollmentDTO toDto(String studentEmail, LocalDate enrollmentDate, Double grade, String courseName) {
+        String formattedDate = enrollmentDate != null ? enrollmentDate.format(DATE_FORMATTER) : null;
 
         return new EnrollmentDTO(
-                enrollment.getStudentEmail(),
+                studentEmail,
                 courseName,
                 formattedDate,
-                enrollment.getGrade()
+                grade
         );
     }
-}
\ No newline at end of file
+}
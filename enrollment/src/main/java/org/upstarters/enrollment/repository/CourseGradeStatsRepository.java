@@ -0,0 +1,73 @@
+package org.upstarters.enrollment.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.upstarters.enrollment.entity.CourseGradeStats;
+
+@Repository
+public interface CourseGradeStatsRepository extends JpaRepository<CourseGradeStats, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            insert into course_grade_stats (course_id, enrollment_count, grade_sum, passing_count, min_grade, max_grade)
+            values (:courseId, :count, :gradeSum, :passingCount, :minGrade, :maxGrade)
+            on conflict (course_id) do update set
+                enrollment_count = course_grade_stats.enrollment_count + excluded.enrollment_count,
+                grade_sum = course_grade_stats.grade_sum + excluded.grade_sum,
+                passing_count = course_grade_stats.passing_count + excluded.passing_count,
+                min_grade = least(course_grade_stats.min_grade, excluded.min_grade),
+                max_grade = greatest(course_grade_stats.max_grade, excluded.max_grade)
+            """, nativeQuery = true)
+    void addGrades(@Param("courseId") Long courseId,
+                   @Param("count") long count,
+                   @Param("gradeSum") double gradeSum,
+                   @Param("passingCount") long passingCount,
+                   @Param("minGrade") Double minGrade,
+                   @Param("maxGrade") Double maxGrade);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update course_grade_stats set
+                enrollment_count = enrollment_count - :count,
+                grade_sum = grade_sum - :gradeSum,
+                passing_count = passing_count - :passingCount
+            where course_id = :courseId
+            """, nativeQuery = true)
+    void removeGrades(@Param("courseId") Long courseId,
+                      @Param("count") long count,
+                      @Param("gradeSum") double gradeSum,
+                      @Param("passingCount") long passingCount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update course_grade_stats set
+                min_grade = (select min(e.grade) from enrollments e where e.course_id = :courseId),
+                max_grade = (select max(e.grade) from enrollments e where e.course_id = :courseId)
+            where course_id = :courseId
+            """, nativeQuery = true)
+    void refreshBounds(@Param("courseId") Long courseId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from course_grade_stats where course_id = :courseId and enrollment_count <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("courseId") Long courseId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from course_grade_stats", nativeQuery = true)
+    void deleteAllStats();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            insert into course_grade_stats (course_id, enrollment_count, grade_sum, passing_count, min_grade, max_grade)
+            select e.course_id, count(*), coalesce(sum(e.grade), 0), count(*) filter (where e.grade > :passingGrade), min(e.grade), max(e.grade)
+            from enrollments e
+            where e.course_id is not null
+            group by e.course_id
+            """, nativeQuery = true)
+    void rebuildFromEnrollments(@Param("passingGrade") double passingGrade);
+
+    @Query(value = "select percentile_cont(0.5) within group (order by e.grade) from enrollments e where e.course_id = :courseId", nativeQuery = true)
+    Double findMedianGrade(@Param("courseId") Long courseId);
+}
@@ -0,0 +1,14 @@
+package org.upstarters.enrollment.repository;
+
+/**
+ * Projection of a course identifier together with the course title stored next to it
+ * on the enrollments, used to detect titles that drifted from the course service.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface EnrollmentCourseTitle {
+    Long getCourseId();
+    String getCourseTitle();
+}
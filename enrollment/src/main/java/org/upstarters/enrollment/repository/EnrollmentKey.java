@@ -0,0 +1,15 @@
+package org.upstarters.enrollment.repository;
+
+/**
+ * Projection of the columns that identify an enrollment: the student and the course.
+ * Used to check many student/course pairs for existing enrollments without loading
+ * whole entities.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface EnrollmentKey {
+    String getStudentEmail();
+    Long getCourseId();
+}
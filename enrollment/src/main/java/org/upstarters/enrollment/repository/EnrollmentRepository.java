@@ -1,12 +1,24 @@
 package org.upstarters.enrollment.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.upstarters.enrollment.entity.Enrollment;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Optional<List<Enrollment>> findEnrollmentsByCourseId(Long courseId);
@@ -17,4 +29,47 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Optional<List<Enrollment>> findAllByCourseId(Long courseId);
     Optional<List<Enrollment>> findAllByGradeLessThanEqual(double grade);
     Optional<List<Enrollment>> findAllByStudentEmail(String studentEmail);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Enrollment e where e.id = :id")
+    Optional<Enrollment> findByIdForUpdate(@Param("id") Long id);
+
+    List<Enrollment> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Enrollment> findAllByCourseIdOrderByGradeDescIdAsc(Long courseId, Limit limit);
+
+    List<EnrollmentKey> findAllByStudentEmailIn(Collection<String> studentEmails);
+
+    Optional<List<Enrollment>> findAllByCourseIdAndGradeLessThanEqual(Long courseId, double grade);
+
+    List<EnrollmentView> findAllByGradeLessThanEqualAndIdGreaterThanOrderByIdAsc(double grade, Long id, Limit limit);
+
+    List<EnrollmentView> findAllByCourseIdAndGradeLessThanEqualAndIdGreaterThanOrderByIdAsc(Long courseId, double grade, Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EnrollmentView> streamAllByGradeLessThanEqualOrderByIdAsc(double grade);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EnrollmentView> streamAllByCourseIdAndGradeLessThanEqualOrderByIdAsc(Long courseId, double grade);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Enrollment e order by e.id")
+    Stream<Enrollment> streamAllOrderedById();
+
+    @Query("""
+            select distinct e.courseId as courseId, e.courseTitle as courseTitle from Enrollment e
+            where e.courseId is not null and (e.courseRemoved is null or e.courseRemoved = false)
+            """)
+    List<EnrollmentCourseTitle> findDistinctCourseTitles();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.courseTitle = :title where e.courseId = :courseId and (e.courseTitle is null or e.courseTitle <> :title)")
+    int updateCourseTitle(@Param("courseId") Long courseId, @Param("title") String title);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.courseTitle = null, e.courseRemoved = true where e.courseId = :courseId and (e.courseRemoved is null or e.courseRemoved = false)")
+    int markCourseRemoved(@Param("courseId") Long courseId);
+}
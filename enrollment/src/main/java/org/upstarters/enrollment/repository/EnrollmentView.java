@@ -0,0 +1,22 @@
+package org.upstarters.enrollment.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of an enrollment row.
+ * Used by report queries that only need to map rows to DTOs, so Hibernate does not have
+ * to create, track and later discard a managed entity per row.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface EnrollmentView {
+    Long getId();
+    String getStudentEmail();
+    Long getCourseId();
+    String getCourseTitle();
+    Boolean getCourseRemoved();
+    LocalDate getEnrollmentDate();
+    Double getGrade();
+}
@@ -0,0 +1,96 @@
+package org.upstarters.enrollment.service.concurrent;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs independent blocking calls, typically remote lookups, at the same time.
+ * Each call runs on its own virtual thread, so the total latency is close to that of the
+ * slowest call rather than the sum of all of them. As soon as one call fails, the other
+ * call is cancelled (its thread is interrupted) and the failure is rethrown to the caller
+ * unchanged, so callers keep the exception handling they had for sequential calls.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class ParallelCalls {
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructs the helper on top of the given executor.
+     *
+     * @author Popa Marian-Iulian
+     * @param executor the executor the calls are submitted to; one virtual thread per task
+     * @since 1.0
+     */
+    public ParallelCalls(@Qualifier("remoteCallExecutor") ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs two calls concurrently and waits for both of them.
+     *
+     * @author Popa Marian-Iulian
+     * @param first the first call
+     * @param second the second call
+     * @param <A> the result type of the first call
+     * @param <B> the result type of the second call
+     * @return the results of both calls
+     * @throws RuntimeException the exception of whichever call failed first; the other call is cancelled
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Both<A, B> both(Supplier<A> first, Supplier<B> second) {
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+        Future<Object> firstFuture = completionService.submit(first::get);
+        Future<Object> secondFuture = completionService.submit(second::get);
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                completionService.take().get();
+            }
+            return new Both<>((A) firstFuture.get(), (B) secondFuture.get());
+        } catch (ExecutionException e) {
+            firstFuture.cancel(true);
+            secondFuture.cancel(true);
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            firstFuture.cancel(true);
+            secondFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for remote calls", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(cause);
+    }
+
+    /**
+     * The results of two calls run by {@link #both(Supplier, Supplier)}.
+     *
+     * @param first the result of the first call
+     * @param second the result of the second call
+     * @param <A> the result type of the first call
+     * @param <B> the result type of the second call
+     */
+    public record Both<A, B>(A first, B second) {
+    }
+}
@@ -1,39 +1,57 @@
 package org.upstarters.enrollment.service.course;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import org.springframework.stereotype.Service;
 import org.upstarters.enrollment.dto.CourseDTO;
 import org.upstarters.enrollment.dto.FullCourseDTO;
 
+import feign.FeignException;
+
 /**
  * Service class for interacting with the Course microservice via Feign client.
  * Provides methods to retrieve course information including course IDs and names.
  * This service acts as a wrapper around the CourseFeignClient, handling exceptions
  * and providing a clean API for course-related operations.
+ * Lookups are answered from the local {@link CourseCatalogCache} when possible and
+ * only fall through to the course microservice on a cache miss.
  *
  * @author Popa Marian-Iulian
- * @version 1.0
+ * @version 1.1
  * @since 2026-01-12
  */
 @Service
 public class CourseAPIService implements ICourseAPIService{
 
     private final CourseFeignClient courseFeignClient;
+    private final CourseCatalogCache courseCatalogCache;
 
     /**
-     * Constructs a new CourseAPIService with the specified Feign client.
+     * Constructs a new CourseAPIService with the specified Feign client and catalog cache.
      *
      * @author Popa Marian-Iulian
      * @param courseFeignClientInstance the Feign client instance for course service communication
+     * @param courseCatalogCacheInstance the local cache of course titles and identifiers
      * @since 1.0
      */
-    CourseAPIService(CourseFeignClient courseFeignClientInstance) {
+    CourseAPIService(CourseFeignClient courseFeignClientInstance, CourseCatalogCache courseCatalogCacheInstance) {
         this.courseFeignClient = courseFeignClientInstance;
+        this.courseCatalogCache = courseCatalogCacheInstance;
     }
 
     /**
      * Retrieves the unique identifier of a course by its name.
-     * Makes a remote call to the course microservice to fetch course details
+     * Answers from the local catalog cache when the title was resolved recently; otherwise
+     * makes a remote call to the course microservice to fetch course details
      * and extracts the course ID from the response.
+     * Titles the course service does not know are cached as unknown for a short time.
      *
      * @author Popa Marian-Iulian
      * @param courseName the name of the course to look up
@@ -45,9 +63,22 @@ public class CourseAPIService implements ICourseAPIService{
      */
     @Override
     public Long getCourseIdByName(String courseName) {
+        Long cachedCourseId = courseCatalogCache.getCourseId(courseName);
+        if (cachedCourseId != null) {
+            return cachedCourseId;
+        }
+
+        if (courseCatalogCache.isUnknownTitle(courseName)) {
+            return null;
+        }
+
         try {
             FullCourseDTO response = courseFeignClient.getCourseByTitle(courseName);
+            courseCatalogCache.put(response.getId(), courseName);
             return response.getId();
+        } catch (FeignException.NotFound e) {
+            courseCatalogCache.markUnknownTitle(courseName);
+            return null;
         } catch (Exception e) {
             throw new RuntimeException("Failed to get course id", e);
         }
@@ -55,7 +86,8 @@ public class CourseAPIService implements ICourseAPIService{
 
     /**
      * Retrieves the name of a course by its unique identifier.
-     * Makes a remote call to the course microservice to fetch course details
+     * Answers from the local catalog cache when possible; otherwise
+     * makes a remote call to the course microservice to fetch course details
      * and extracts the course title from the response.
      *
      * @author Popa Marian-Iulian
@@ -68,11 +100,156 @@ public class CourseAPIService implements ICourseAPIService{
      */
     @Override
     public String getCourseNameById(Long courseId) {
+        String cachedTitle = courseCatalogCache.getCourseTitle(courseId);
+        if (cachedTitle != null) {
+            return cachedTitle;
+        }
+
         try {
             CourseDTO response = courseFeignClient.getCourseById(courseId);
+            courseCatalogCache.put(courseId, response.getTitle());
             return response.getTitle();
         } catch (Exception e) {
             throw new RuntimeException("Failed to get course name", e);
         }
     }
+
+    /**
+     * Retrieves the names of several courses with a single remote call.
+     * Names already present in the local catalog cache are served from it; all remaining
+     * identifiers are sent to the course microservice in one request
+     * instead of issuing one lookup per identifier, which keeps list endpoints
+     * from making one HTTP round-trip per enrollment.
+     * Identifiers that do not match any course are absent from the returned map.
+     *
+     * @author Popa Marian-Iulian
+     * @param courseIds the unique identifiers of the courses to resolve
+     * @return a map from course identifier to course name; empty if no identifiers are given
+     * @throws RuntimeException if the remote service call fails or an error occurs during processing
+     * @see CourseFeignClient#getCourseTitlesByIds(Collection)
+     * @since 1.1
+     */
+    @Override
+    public Map<Long, String> getCourseNamesByIds(Collection<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, String> courseNames = new HashMap<>(courseCatalogCache.getCourseTitles(courseIds));
+        List<Long> missingCourseIds = courseIds.stream()
+                .filter(Objects::nonNull)
+                .filter(courseId -> !courseNames.containsKey(courseId))
+                .distinct()
+                .toList();
+
+        if (missingCourseIds.isEmpty()) {
+            return courseNames;
+        }
+
+        try {
+            Map<Long, String> response = courseFeignClient.getCourseTitlesByIds(missingCourseIds);
+            if (response != null) {
+                courseCatalogCache.putAll(response);
+                courseNames.putAll(response);
+            }
+            return courseNames;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get course names", e);
+        }
+    }
+
+    /**
+     * Fetches the current names of several courses from the course microservice with a
+     * single remote call, bypassing the local catalog cache, and refreshes the cache with
+     * the answer. Used when the cached or stored names are the ones being checked.
+     * Identifiers that do not match any course are absent from the returned map.
+     *
+     * @author Popa Marian-Iulian
+     * @param courseIds the unique identifiers of the courses to resolve
+     * @return a map from course identifier to course name; empty if no identifiers are given
+     * @throws RuntimeException if the remote service call fails or an error occurs during processing
+     * @see CourseFeignClient#getCourseTitlesByIds(Collection)
+     * @since 1.1
+     */
+    @Override
+    public Map<Long, String> refreshCourseNamesByIds(Collection<Long> courseIds) {
+        List<Long> distinctCourseIds = courseIds == null ? List.of() : courseIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (distinctCourseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            Map<Long, String> response = courseFeignClient.getCourseTitlesByIds(distinctCourseIds);
+            if (response == null) {
+                return Collections.emptyMap();
+            }
+            courseCatalogCache.putAll(response);
+            return response;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get course names", e);
+        }
+    }
+
+    /**
+     * Resolves several course names to their identifiers with at most one remote call.
+     * Names already present in the local catalog cache, or recently reported as unknown,
+     * are answered from it; all remaining names are sent to the course microservice in
+     * one request. Names the course service does not return are cached as unknown.
+     * Names that do not match any course are absent from the returned map.
+     *
+     * @author Popa Marian-Iulian
+     * @param courseNames the names of the courses to resolve
+     * @return a map from course name to course identifier; empty if no names are given
+     * @throws RuntimeException if the remote service call fails or an error occurs during processing
+     * @see CourseFeignClient#getCourseIdsByTitles(Collection)
+     * @since 1.1
+     */
+    @Override
+    public Map<String, Long> getCourseIdsByNames(Collection<String> courseNames) {
+        if (courseNames == null || courseNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> courseIds = new HashMap<>();
+        List<String> missingCourseNames = new ArrayList<>();
+
+        for (String courseName : new LinkedHashSet<>(courseNames)) {
+            if (courseName == null) {
+                continue;
+            }
+
+            Long cachedCourseId = courseCatalogCache.getCourseId(courseName);
+            if (cachedCourseId != null) {
+                courseIds.put(courseName, cachedCourseId);
+            } else if (!courseCatalogCache.isUnknownTitle(courseName)) {
+                missingCourseNames.add(courseName);
+            }
+        }
+
+        if (missingCourseNames.isEmpty()) {
+            return courseIds;
+        }
+
+        try {
+            Map<String, Long> response = courseFeignClient.getCourseIdsByTitles(missingCourseNames);
+            Map<String, Long> found = response != null ? response : Collections.emptyMap();
+
+            for (String courseName : missingCourseNames) {
+                Long courseId = found.get(courseName);
+                if (courseId != null) {
+                    courseCatalogCache.put(courseId, courseName);
+                    courseIds.put(courseName, courseId);
+                } else {
+                    courseCatalogCache.markUnknownTitle(courseName);
+                }
+            }
+            return courseIds;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get course ids", e);
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package org.upstarters.enrollment.service.course;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-process copy of the course catalog used by {@link CourseAPIService}.
+ * Keeps both directions of the title/id mapping so that enrollment creation,
+ * updates and listings do not have to call the course microservice every time.
+ * Titles that the course service reported as unknown are remembered for a shorter
+ * period so repeated requests for a missing course do not reach the remote service either.
+ * Entries expire after a configurable time to live and are evicted by Caffeine's
+ * size-based W-TinyLFU policy once the configured maximum size is reached.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class CourseCatalogCache {
+
+    static final String IDS_BY_TITLE = "courseIdsByTitle";
+    static final String TITLES_BY_ID = "courseTitlesById";
+    static final String UNKNOWN_TITLES = "unknownCourseTitles";
+
+    private final Cache<String, Long> idsByTitle;
+    private final Cache<Long, String> titlesById;
+    private final Cache<String, Boolean> unknownTitles;
+
+    /**
+     * Constructs the cache with the configured expiry and size bounds and registers
+     * its hit/miss statistics with the meter registry.
+     *
+     * @author Popa Marian-Iulian
+     * @param ttl how long a resolved title/id pair is kept
+     * @param negativeTtl how long a title reported as unknown is kept
+     * @param maximumSize the maximum number of entries kept on each side of the cache
+     * @param meterRegistry the registry the cache statistics are published to
+     * @since 1.0
+     */
+    @Autowired
+    public CourseCatalogCache(@Value("${enrollment.course-cache.ttl:10m}") Duration ttl,
+                              @Value("${enrollment.course-cache.negative-ttl:30s}") Duration negativeTtl,
+                              @Value("${enrollment.course-cache.maximum-size:10000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.idsByTitle = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).recordStats().<String, Long>build(),
+                IDS_BY_TITLE);
+        this.titlesById = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).recordStats().<Long, String>build(),
+                TITLES_BY_ID);
+        this.unknownTitles = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(negativeTtl).maximumSize(maximumSize).recordStats().<String, Boolean>build(),
+                UNKNOWN_TITLES);
+    }
+
+    public Long getCourseId(String title) {
+        return title == null ? null : idsByTitle.getIfPresent(title);
+    }
+
+    public String getCourseTitle(Long courseId) {
+        return courseId == null ? null : titlesById.getIfPresent(courseId);
+    }
+
+    public Map<Long, String> getCourseTitles(Collection<Long> courseIds) {
+        return titlesById.getAllPresent(courseIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+    }
+
+    public boolean isUnknownTitle(String title) {
+        return title != null && unknownTitles.getIfPresent(title) != null;
+    }
+
+    public void put(Long courseId, String title) {
+        if (courseId == null || title == null) {
+            return;
+        }
+        idsByTitle.put(title, courseId);
+        titlesById.put(courseId, title);
+        unknownTitles.invalidate(title);
+    }
+
+    public void putAll(Map<Long, String> titles) {
+        titles.forEach(this::put);
+    }
+
+    public void markUnknownTitle(String title) {
+        if (title != null) {
+            unknownTitles.put(title, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Removes a single course from both sides of the cache, together with any
+     * negative entry recorded for its title.
+     *
+     * @author Popa Marian-Iulian
+     * @param title the title of the course to forget
+     * @since 1.0
+     */
+    public void evict(String title) {
+        Long courseId = idsByTitle.asMap().remove(title);
+        if (courseId != null) {
+            titlesById.invalidate(courseId);
+        }
+        titlesById.asMap().values().removeIf(title::equals);
+        unknownTitles.invalidate(title);
+    }
+
+    public void evictAll() {
+        idsByTitle.invalidateAll();
+        titlesById.invalidateAll();
+        unknownTitles.invalidateAll();
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of every cache side,
+     * keyed by cache name.
+     *
+     * @author Popa Marian-Iulian
+     * @return a map from cache name to its current statistics
+     * @since 1.0
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put(IDS_BY_TITLE, describe(idsByTitle));
+        stats.put(TITLES_BY_ID, describe(titlesById));
+        stats.put(UNKNOWN_TITLES, describe(unknownTitles));
+        return stats;
+    }
+
+    private static Map<String, Object> describe(Cache<?, ?> cache) {
+        CacheStats cacheStats = cache.stats();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", cache.estimatedSize());
+        description.put("hits", cacheStats.hitCount());
+        description.put("misses", cacheStats.missCount());
+        description.put("hitRate", cacheStats.hitRate());
+        description.put("evictions", cacheStats.evictionCount());
+        return description;
+    }
+}
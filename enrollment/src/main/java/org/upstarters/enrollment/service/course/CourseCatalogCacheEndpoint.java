@@ -0,0 +1,45 @@
+package org.upstarters.enrollment.service.course;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the local course catalog cache.
+ * {@code GET /actuator/coursecache} returns the hit/miss counters,
+ * {@code DELETE /actuator/coursecache} clears the whole cache and
+ * {@code DELETE /actuator/coursecache/{title}} forgets a single course.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Endpoint(id = "coursecache")
+public class CourseCatalogCacheEndpoint {
+
+    private final CourseCatalogCache courseCatalogCache;
+
+    CourseCatalogCacheEndpoint(CourseCatalogCache courseCatalogCache) {
+        this.courseCatalogCache = courseCatalogCache;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> stats() {
+        return courseCatalogCache.stats();
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        courseCatalogCache.evictAll();
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String title) {
+        courseCatalogCache.evict(title);
+    }
+}
@@ -1,8 +1,13 @@
 package org.upstarters.enrollment.service.course;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.upstarters.enrollment.dto.CourseDTO;
 import org.upstarters.enrollment.dto.FullCourseDTO;
 
@@ -13,4 +18,10 @@ public interface CourseFeignClient {
     
     @GetMapping("/getByTitle/{title}")
     FullCourseDTO getCourseByTitle(@PathVariable("title") String title);
+
+    @PostMapping("/getTitlesByIds")
+    Map<Long, String> getCourseTitlesByIds(@RequestBody Collection<Long> courseIds);
+
+    @PostMapping("/getIdsByTitles")
+    Map<String, Long> getCourseIdsByTitles(@RequestBody Collection<String> titles);
 }
\ No newline at end of file
@@ -1,7 +1,16 @@
 package org.upstarters.enrollment.service.course;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface ICourseAPIService {
     Long getCourseIdByName(String courseName);
 
     String getCourseNameById(Long courseId);
+
+    Map<Long, String> getCourseNamesByIds(Collection<Long> courseIds);
+
+    Map<Long, String> refreshCourseNamesByIds(Collection<Long> courseIds);
+
+    Map<String, Long> getCourseIdsByNames(Collection<String> courseNames);
 }
@@ -0,0 +1,160 @@
+package org.upstarters.enrollment.service.coursetitle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.upstarters.enrollment.dto.CourseTitleReconciliationDTO;
+import org.upstarters.enrollment.repository.EnrollmentCourseTitle;
+import org.upstarters.enrollment.repository.EnrollmentRepository;
+import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.course.CourseCatalogCache;
+
+/**
+ * Service class keeping the course titles stored on enrollments in line with the course service.
+ * Every enrollment carries a copy of its course title so that reads can be mapped locally;
+ * this service applies course renames and removals pushed by the course service to those copies
+ * and periodically reconciles them with the course service to repair any drift, such as
+ * notifications that never arrived or rows written before the title was stored.
+ * Enrollments of removed courses lose their stored title and are marked, so reads neither show
+ * the old title nor ask the course service for it.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class CourseTitleService implements ICourseTitleService {
+
+    static final int RECONCILE_CHUNK_SIZE = 1_000;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseAPIService courseAPIService;
+    private final CourseCatalogCache courseCatalogCache;
+    private final TransactionTemplate transactionTemplate;
+
+    CourseTitleService(EnrollmentRepository enrollmentRepository,
+                       CourseAPIService courseAPIService,
+                       CourseCatalogCache courseCatalogCache,
+                       TransactionTemplate transactionTemplate) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseAPIService = courseAPIService;
+        this.courseCatalogCache = courseCatalogCache;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Applies a course rename to every enrollment of the course and to the local catalog cache.
+     * Rows that already carry the new title are left untouched.
+     *
+     * @author Popa Marian-Iulian
+     * @param courseId the unique identifier of the renamed course
+     * @param title the new title of the course
+     * @return the number of enrollments whose stored title changed
+     * @throws IllegalArgumentException if the course identifier or the title is missing
+     * @see EnrollmentRepository#updateCourseTitle(Long, String)
+     * @since 1.1
+     */
+    @Override
+    public int renameCourse(Long courseId, String title) {
+        if (courseId == null || title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Course and title must be provided");
+        }
+
+        Integer updated = transactionTemplate.execute(status -> enrollmentRepository.updateCourseTitle(courseId, title));
+
+        String cachedTitle = courseCatalogCache.getCourseTitle(courseId);
+        if (cachedTitle != null && !cachedTitle.equals(title)) {
+            courseCatalogCache.evict(cachedTitle);
+        }
+        courseCatalogCache.put(courseId, title);
+
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * Clears the stored title of every enrollment of a removed course and marks the enrollments,
+     * so they are neither mapped with the old title nor reconciled again. The course is also
+     * evicted from the local catalog cache.
+     *
+     * @author Popa Marian-Iulian
+     * @param courseId the unique identifier of the removed course
+     * @return the number of enrollments that were marked
+     * @throws IllegalArgumentException if the course identifier is missing
+     * @see EnrollmentRepository#markCourseRemoved(Long)
+     * @since 1.1
+     */
+    @Override
+    public int removeCourse(Long courseId) {
+        if (courseId == null) {
+            throw new IllegalArgumentException("Course must be provided");
+        }
+
+        Integer updated = transactionTemplate.execute(status -> enrollmentRepository.markCourseRemoved(courseId));
+
+        String cachedTitle = courseCatalogCache.getCourseTitle(courseId);
+        if (cachedTitle != null) {
+            courseCatalogCache.evict(cachedTitle);
+        }
+
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * Compares the course titles stored on enrollments with the course service and rewrites
+     * the ones that drifted. Titles are fetched in chunks of {@value #RECONCILE_CHUNK_SIZE}
+     * courses, bypassing the catalog cache. Enrollments of courses the course service no longer
+     * knows are marked as removed, as {@link #removeCourse(Long)} does, and the courses are
+     * evicted from the catalog cache.
+     *
+     * @author Popa Marian-Iulian
+     * @return how many courses were checked, how many enrollments were rewritten or marked and how many courses are gone
+     * @throws RuntimeException if the course service cannot be reached
+     * @see CourseAPIService#refreshCourseNamesByIds(java.util.Collection)
+     * @since 1.1
+     */
+    @Override
+    public CourseTitleReconciliationDTO reconcile() {
+        Map<Long, Set<String>> storedTitles = enrollmentRepository.findDistinctCourseTitles().stream()
+                .collect(Collectors.groupingBy(EnrollmentCourseTitle::getCourseId,
+                        Collectors.mapping(EnrollmentCourseTitle::getCourseTitle, Collectors.toSet())));
+
+        List<Long> courseIds = new ArrayList<>(storedTitles.keySet());
+        int updatedEnrollments = 0;
+        int missingCourses = 0;
+
+        for (int from = 0; from < courseIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = courseIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, courseIds.size()));
+            Map<Long, String> currentTitles = courseAPIService.refreshCourseNamesByIds(chunk);
+
+            for (Long courseId : chunk) {
+                Set<String> stored = storedTitles.get(courseId);
+                String title = currentTitles.get(courseId);
+
+                if (title == null) {
+                    missingCourses++;
+                    stored.stream().filter(Objects::nonNull).forEach(courseCatalogCache::evict);
+                    Integer updated = transactionTemplate.execute(status -> enrollmentRepository.markCourseRemoved(courseId));
+                    updatedEnrollments += updated != null ? updated : 0;
+                } else if (stored.size() != 1 || !stored.contains(title)) {
+                    Integer updated = transactionTemplate.execute(status -> enrollmentRepository.updateCourseTitle(courseId, title));
+                    updatedEnrollments += updated != null ? updated : 0;
+                }
+            }
+        }
+
+        return new CourseTitleReconciliationDTO(courseIds.size(), updatedEnrollments, missingCourses);
+    }
+
+    @Scheduled(initialDelayString = "${enrollment.course-title-sync.initial-delay:1m}",
+            fixedDelayString = "${enrollment.course-title-sync.interval:1h}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+}
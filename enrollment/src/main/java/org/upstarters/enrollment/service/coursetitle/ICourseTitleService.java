@@ -0,0 +1,9 @@
+package org.upstarters.enrollment.service.coursetitle;
+
+import org.upstarters.enrollment.dto.CourseTitleReconciliationDTO;
+
+public interface ICourseTitleService {
+    int renameCourse(Long courseId, String title);
+    int removeCourse(Long courseId);
+    CourseTitleReconciliationDTO reconcile();
+}
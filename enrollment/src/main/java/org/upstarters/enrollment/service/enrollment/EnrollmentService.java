@@ -1,20 +1,48 @@
 package org.upstarters.enrollment.service.enrollment;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.upstarters.enrollment.dto.EnrollmentBulkResponseDTO;
+import org.upstarters.enrollment.dto.EnrollmentBulkResultDTO;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
+import org.upstarters.enrollment.dto.EnrollmentPageDTO;
+import org.upstarters.enrollment.dto.EnrollmentRequestDTO;
 import org.upstarters.enrollment.dto.EnrollmentUpdateDTO;
 import org.upstarters.enrollment.dto.StudentDTO;
 import org.upstarters.enrollment.entity.Enrollment;
 import org.upstarters.enrollment.mapper.EnrollmentMapper;
+import org.upstarters.enrollment.repository.EnrollmentKey;
 import org.upstarters.enrollment.repository.EnrollmentRepository;
+import org.upstarters.enrollment.repository.EnrollmentView;
+import org.upstarters.enrollment.service.concurrent.ParallelCalls;
+import org.upstarters.enrollment.service.concurrent.ParallelCalls.Both;
 import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.statistics.GradeStatisticsService;
 import org.upstarters.enrollment.service.student.StudentAPIService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -29,25 +57,47 @@ import jakarta.persistence.EntityNotFoundException;
 @Service
 public class EnrollmentService implements IEnrollmentService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int STREAM_CHUNK_SIZE = 500;
+    static final int MAX_TOP_N = 100;
+    static final int MAX_BULK_ROWS = 10_000;
+    static final int LOOKUP_CHUNK_SIZE = 1_000;
+
     private final EnrollmentRepository enrollmentRepository;
     private final CourseAPIService courseAPIService;
     private final StudentAPIService studentAPIService;
     private final EnrollmentMapper enrollmentMapper;
+    private final EntityManager entityManager;
+    private final ParallelCalls parallelCalls;
+    private final GradeStatisticsService gradeStatisticsService;
+    private final TransactionTemplate transactionTemplate;
 
     EnrollmentService(EnrollmentRepository enrollmentRepository,
                       CourseAPIService courseAPIService,
                       StudentAPIService studentAPIService,
-                      EnrollmentMapper enrollmentMapper) {
+                      EnrollmentMapper enrollmentMapper,
+                      EntityManager entityManager,
+                      ParallelCalls parallelCalls,
+                      GradeStatisticsService gradeStatisticsService,
+                      TransactionTemplate transactionTemplate) {
         this.enrollmentMapper = enrollmentMapper;
         this.enrollmentRepository = enrollmentRepository;
         this.courseAPIService =  courseAPIService;
         this.studentAPIService = studentAPIService;
+        this.entityManager = entityManager;
+        this.parallelCalls = parallelCalls;
+        this.gradeStatisticsService = gradeStatisticsService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * Enrolls a student in a specified course.
      * Creates a new enrollment record with the current date and initial grade of 0.0.
-     * Validates that both the student and course exist before creating the enrollment.
+     * Validates that both the student and course exist before creating the enrollment;
+     * the two remote lookups run concurrently.
+     * Duplicate enrollments are rejected by the unique constraint on
+     * {@code (student_email, course_id)} rather than by a separate existence check,
+     * so two concurrent requests cannot both succeed.
      * 
      * @author Popa Marian-Iulian
      *
@@ -58,31 +108,220 @@ public class EnrollmentService implements IEnrollmentService {
      * @throws IllegalStateException if the student is already enrolled in the course
      * @see StudentAPIService#getStudentByEmail(String)
      * @see CourseAPIService#getCourseIdByName(String)
+     * @see ParallelCalls#both(java.util.function.Supplier, java.util.function.Supplier)
      * @since 1.0
      */
     @Override
     public void enrollStudentInCourse(String studentEmail, String courseName) {
-        StudentDTO student = studentAPIService.getStudentByEmail(studentEmail);
+        Both<StudentDTO, Long> lookups = parallelCalls.both(
+                () -> studentAPIService.getStudentByEmail(studentEmail),
+                () -> courseAPIService.getCourseIdByName(courseName));
+
+        StudentDTO student = lookups.first();
         if (student == null) {
             throw new IllegalArgumentException("Student not found with email: " + studentEmail);
         }
 
-        Long courseId = courseAPIService.getCourseIdByName(courseName);
+        Long courseId = lookups.second();
         if (courseId == null) {
             throw new IllegalArgumentException("Course not found with name: " + courseName);
         }
 
-        if (enrollmentRepository.existsByStudentEmailAndCourseId(studentEmail, courseId)) {
-            throw new IllegalStateException("Student is already enrolled in the course");
-        }
-
         Enrollment enrollment = new Enrollment();
         enrollment.setStudentEmail(studentEmail);
         enrollment.setCourseId(courseId);
+        enrollment.setCourseTitle(courseName);
         enrollment.setEnrollmentDate(LocalDate.now());
         enrollment.setGrade(0.0);
 
-        enrollmentRepository.save(enrollment);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                enrollmentRepository.saveAndFlush(enrollment);
+                gradeStatisticsService.recordAdded(List.of(enrollment));
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Student is already enrolled in the course", e);
+        }
+    }
+
+    /**
+     * Enrolls many students in many courses in one call.
+     * All distinct student emails and all distinct course names are each
+     * resolved with a single lookup, instead of two remote calls per row; student and
+     * course validation run concurrently. Existing
+     * enrollments of the imported students are read in chunks, and all new enrollments
+     * are written in one transaction with JDBC batch inserts.
+     * Rows are validated independently: a row with an unknown student or course, a row that
+     * repeats an earlier row, or a row for an existing enrollment is reported as failed
+     * without affecting the others.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param requests the student email and course name of every enrollment to create
+     * @return the outcome of every row, in input order, together with created and failed counts
+     * @throws IllegalArgumentException if more than {@value #MAX_BULK_ROWS} rows are given
+     * @throws IllegalStateException if a concurrent request created one of the enrollments meanwhile
+     * @see StudentAPIService#getStudentsByEmails(java.util.Collection)
+     * @see CourseAPIService#getCourseIdsByNames(java.util.Collection)
+     * @see EnrollmentRepository#findAllByStudentEmailIn(java.util.Collection)
+     * @since 1.1
+     */
+    @Override
+    public EnrollmentBulkResponseDTO bulkEnroll(List<EnrollmentRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return new EnrollmentBulkResponseDTO(List.of());
+        }
+        if (requests.size() > MAX_BULK_ROWS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_ROWS + " enrollments can be imported at once");
+        }
+
+        Set<String> studentEmails = new LinkedHashSet<>();
+        Set<String> courseNames = new LinkedHashSet<>();
+        for (EnrollmentRequestDTO request : requests) {
+            if (isBlank(request.getStudentEmail()) || isBlank(request.getCourseName())) {
+                continue;
+            }
+            studentEmails.add(request.getStudentEmail());
+            courseNames.add(request.getCourseName());
+        }
+
+        Both<Set<String>, Map<String, Long>> lookups = parallelCalls.both(
+                () -> findKnownStudents(studentEmails),
+                () -> courseAPIService.getCourseIdsByNames(courseNames));
+        Set<String> knownStudents = lookups.first();
+        Map<String, Long> courseIds = lookups.second();
+        Set<String> takenPairs = findExistingEnrollments(knownStudents);
+
+        List<EnrollmentBulkResultDTO> results = new ArrayList<>(requests.size());
+        List<Enrollment> enrollments = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+            EnrollmentRequestDTO request = requests.get(i);
+            String studentEmail = request.getStudentEmail();
+            String courseName = request.getCourseName();
+            Long courseId = courseName != null ? courseIds.get(courseName) : null;
+
+            String error = null;
+            if (isBlank(studentEmail) || isBlank(courseName)) {
+                error = "Student and course must be provided";
+            } else if (!knownStudents.contains(studentEmail)) {
+                error = "Student not found with email: " + studentEmail;
+            } else if (courseId == null) {
+                error = "Course not found with name: " + courseName;
+            } else if (!takenPairs.add(enrollmentKey(studentEmail, courseId))) {
+                error = "Student is already enrolled in the course";
+            }
+
+            if (error != null) {
+                results.add(new EnrollmentBulkResultDTO(i + 1, studentEmail, courseName, false, error));
+            } else {
+                Enrollment enrollment = new Enrollment(studentEmail, courseId, today, 0.0);
+                enrollment.setCourseTitle(courseName);
+                enrollments.add(enrollment);
+                results.add(new EnrollmentBulkResultDTO(i + 1, studentEmail, courseName, true, "Enrollment created successfully"));
+            }
+        }
+
+        if (!enrollments.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    enrollmentRepository.saveAll(enrollments);
+                    gradeStatisticsService.recordAdded(enrollments);
+                });
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("Some enrollments were created concurrently, retry the import", e);
+            }
+        }
+
+        return new EnrollmentBulkResponseDTO(results);
+    }
+
+    /**
+     * Enrolls many students from a CSV stream with one {@code studentEmail,courseName} pair per line.
+     * An optional header line, blank lines and surrounding quotes are ignored. The course name is
+     * everything after the first comma, so course titles may themselves contain commas.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param csv the UTF-8 encoded CSV content
+     * @return the outcome of every data row, in input order, together with created and failed counts
+     * @throws IllegalArgumentException if a line has no comma or more than {@value #MAX_BULK_ROWS} rows are given
+     * @throws UncheckedIOException if the stream cannot be read
+     * @see #bulkEnroll(List)
+     * @since 1.1
+     */
+    @Override
+    public EnrollmentBulkResponseDTO bulkEnrollFromCsv(InputStream csv) {
+        List<EnrollmentRequestDTO> requests = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                int separator = line.indexOf(',');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " is not in the format studentEmail,courseName");
+                }
+
+                String studentEmail = unquote(line.substring(0, separator));
+                String courseName = unquote(line.substring(separator + 1));
+                if (lineNumber == 1 && studentEmail.equalsIgnoreCase("studentEmail")) {
+                    continue;
+                }
+
+                if (requests.size() == MAX_BULK_ROWS) {
+                    throw new IllegalArgumentException("At most " + MAX_BULK_ROWS + " enrollments can be imported at once");
+                }
+                requests.add(new EnrollmentRequestDTO(studentEmail, courseName));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read enrollment CSV", e);
+        }
+
+        return bulkEnroll(requests);
+    }
+
+    private Set<String> findKnownStudents(Set<String> studentEmails) {
+        if (studentEmails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(studentAPIService.getStudentsByEmails(studentEmails).keySet());
+    }
+
+    private Set<String> findExistingEnrollments(Set<String> studentEmails) {
+        Set<String> existing = new HashSet<>();
+        List<String> emails = new ArrayList<>(studentEmails);
+
+        for (int from = 0; from < emails.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, emails.size()));
+            for (EnrollmentKey key : enrollmentRepository.findAllByStudentEmailIn(chunk)) {
+                existing.add(enrollmentKey(key.getStudentEmail(), key.getCourseId()));
+            }
+        }
+
+        return existing;
+    }
+
+    private static String enrollmentKey(String studentEmail, Long courseId) {
+        return courseId + ":" + studentEmail;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).replace("\"\"", "\"");
+        }
+        return trimmed;
     }
 
     /**
@@ -100,6 +339,95 @@ public class EnrollmentService implements IEnrollmentService {
         return enrollmentRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of enrollments using keyset pagination on the enrollment id.
+     * Instead of an offset, the caller passes the opaque {@code next} token returned with
+     * the previous page, so every page is a single index range scan regardless of its depth.
+     * One extra row is read to decide whether another page exists.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param next the token returned with the previous page; null or empty for the first page
+     * @param limit the maximum number of enrollments to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return the enrollments of the page and the token of the following page, or a null token on the last page
+     * @throws IllegalArgumentException if the limit is out of range or the token is malformed
+     * @see EnrollmentPageDTO
+     * @see EnrollmentMapper#toDtoList(List)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EnrollmentPageDTO getEnrollmentsPage(String next, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Long lastId = decodePageToken(next);
+        List<Enrollment> enrollments = enrollmentRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, Limit.of(limit + 1));
+
+        String nextToken = null;
+        if (enrollments.size() > limit) {
+            enrollments = enrollments.subList(0, limit);
+            nextToken = encodePageToken(enrollments.get(limit - 1).getId());
+        }
+
+        return new EnrollmentPageDTO(enrollmentMapper.toDtoList(enrollments), nextToken);
+    }
+
+    /**
+     * Streams every enrollment, ordered by id, to the given consumer in fixed-size chunks.
+     * Rows are read through a database cursor with a bounded fetch size and the persistence
+     * context is cleared after each chunk, so memory use does not grow with the table.
+     * Course names are resolved once per chunk.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param chunkConsumer receives consecutive chunks of at most {@value #STREAM_CHUNK_SIZE} enrollment DTOs
+     * @see EnrollmentRepository#streamAllOrderedById()
+     * @see EnrollmentMapper#toDtoList(List)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEnrollments(Consumer<List<EnrollmentDTO>> chunkConsumer) {
+        try (Stream<Enrollment> enrollments = enrollmentRepository.streamAllOrderedById()) {
+            forEachChunk(enrollments, chunk -> {
+                chunkConsumer.accept(enrollmentMapper.toDtoList(chunk));
+                entityManager.clear();
+            });
+        }
+    }
+
+    private static <T> void forEachChunk(Stream<T> rows, Consumer<List<T>> chunkConsumer) {
+        Iterator<T> iterator = rows.iterator();
+        List<T> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                chunkConsumer.accept(chunk);
+                chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            }
+        }
+    }
+
+    private static String encodePageToken(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodePageToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token: " + token, e);
+        }
+    }
+
     /**
      * Retrieves a specific enrollment by its unique identifier.
      * Maps the enrollment entity to a DTO before returning.
@@ -123,6 +451,10 @@ public class EnrollmentService implements IEnrollmentService {
      * Updates an existing enrollment with new course or grade information.
      * Only updates fields that are provided in the update DTO (non-null values).
      * If a course name is provided, validates that the course exists.
+     * When the course or grade changes, the grade statistics of the old and new course
+     * are adjusted in the same transaction as the update. The enrollment is read with a
+     * row lock, so concurrent updates of the same enrollment adjust the statistics one
+     * after the other, each from the values the previous one committed.
      * 
      * @author Popa Marian-Iulian
      *
@@ -130,33 +462,56 @@ public class EnrollmentService implements IEnrollmentService {
      * @param enrollmentUpdateDTO the data transfer object containing update information
      * @throws EntityNotFoundException if no enrollment exists with the given ID
      * @throws IllegalArgumentException if a course name is provided but the course is not found
+     * @throws IllegalStateException if the student is already enrolled in the new course
      * @see EnrollmentUpdateDTO
      * @see CourseAPIService#getCourseIdByName(String)
      * @since 1.0
      */
     @Override
     public void updateEnrollment(Long enrollmentId, EnrollmentUpdateDTO enrollmentUpdateDTO) {
-        Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
-                .orElseThrow(() -> new EntityNotFoundException("Enrollment not found with id: " + enrollmentId));
-
-        if (enrollmentUpdateDTO.getCourseName() != null && !enrollmentUpdateDTO.getCourseName().isEmpty()) {
-            Long courseId = courseAPIService.getCourseIdByName(enrollmentUpdateDTO.getCourseName());
+        String courseName = enrollmentUpdateDTO.getCourseName();
+        Long courseId = null;
+        if (courseName != null && !courseName.isEmpty()) {
+            courseId = courseAPIService.getCourseIdByName(courseName);
             if (courseId == null) {
-                throw new IllegalArgumentException("Course not found with name: " + enrollmentUpdateDTO.getCourseName());
+                throw new IllegalArgumentException("Course not found with name: " + courseName);
             }
-            enrollment.setCourseId(courseId);
         }
-
-        if (enrollmentUpdateDTO.getGrade() != null) {
-            enrollment.setGrade(enrollmentUpdateDTO.getGrade());
+        Long newCourseId = courseId;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Enrollment enrollment = enrollmentRepository.findByIdForUpdate(enrollmentId)
+                        .orElseThrow(() -> new EntityNotFoundException("Enrollment not found with id: " + enrollmentId));
+                Long oldCourseId = enrollment.getCourseId();
+                Double oldGrade = enrollment.getGrade();
+
+                if (newCourseId != null) {
+                    enrollment.setCourseId(newCourseId);
+                    enrollment.setCourseTitle(courseName);
+                }
+
+                if (enrollmentUpdateDTO.getGrade() != null) {
+                    enrollment.setGrade(enrollmentUpdateDTO.getGrade());
+                }
+
+                enrollmentRepository.save(enrollment);
+                if (!Objects.equals(oldCourseId, enrollment.getCourseId()) || !Objects.equals(oldGrade, enrollment.getGrade())) {
+                    gradeStatisticsService.recordRemoved(oldCourseId, oldGrade);
+                    gradeStatisticsService.recordAdded(List.of(enrollment));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Student is already enrolled in the course", e);
         }
-
-        enrollmentRepository.save(enrollment);
     }
 
     /**
      * Deletes an enrollment from the database.
-     * Permanently removes the enrollment record.
+     * Permanently removes the enrollment record and removes its grade from the
+     * statistics of its course in the same transaction. The enrollment is read with a
+     * row lock, so a concurrent delete of the same enrollment finds it gone and leaves
+     * the statistics alone.
      * 
      * @author Popa Marian-Iulian
      *
@@ -166,11 +521,13 @@ public class EnrollmentService implements IEnrollmentService {
      */
     @Override
     public void deleteEnrollment(Long enrollmentId) {
-        if (enrollmentRepository.existsById(enrollmentId)) {
-            enrollmentRepository.deleteById(enrollmentId);
-        } else {
-            throw new EntityNotFoundException("Enrollment not found with id: " + enrollmentId);
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Enrollment enrollment = enrollmentRepository.findByIdForUpdate(enrollmentId)
+                    .orElseThrow(() -> new EntityNotFoundException("Enrollment not found with id: " + enrollmentId));
+
+            enrollmentRepository.delete(enrollment);
+            gradeStatisticsService.recordRemoved(enrollment.getCourseId(), enrollment.getGrade());
+        });
     }
 
     /**
@@ -197,29 +554,128 @@ public class EnrollmentService implements IEnrollmentService {
         List<Enrollment> enrollments = enrollmentRepository.findAllByCourseId(courseId)
                 .orElse(List.of());
 
-        return enrollments.stream()
-                .map(enrollmentMapper::toDto)
-                .collect(Collectors.toList());
+        return enrollmentMapper.toDtoList(enrollments);
     }
 
     /**
      * Retrieves all enrollments with failing grades.
-     * A failing grade is defined as any grade less than or equal to 5.0.
+     * A failing grade is defined as any grade less than or equal to {@link GradeStatisticsService#PASSING_GRADE}.
      *
      * @author Popa Marian-Iulian
      * 
      * @return a list of enrollment DTOs for students with failing grades; empty list if none found
      * @see EnrollmentDTO
+     * @see #failingStudents(double, String)
      * @since 1.0
      */
     @Override
     public List<EnrollmentDTO> failingStudents() {
-        List<Enrollment> enrollments = enrollmentRepository.findAllByGradeLessThanEqual(5.0)
+        return failingStudents(GradeStatisticsService.PASSING_GRADE, null);
+    }
+
+    /**
+     * Retrieves all enrollments with a grade less than or equal to the given threshold,
+     * optionally restricted to a single course.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param threshold the highest grade still reported as failing
+     * @param course the name of the course to restrict the report to; null or empty for all courses
+     * @return a list of enrollment DTOs for students with failing grades; empty list if none found
+     * @throws EntityNotFoundException if a course is given and it is not found
+     * @see #getFailingStudentsPage(double, String, String, int)
+     * @since 1.1
+     */
+    @Override
+    public List<EnrollmentDTO> failingStudents(double threshold, String course) {
+        Long courseId = resolveOptionalCourseId(course);
+
+        List<Enrollment> enrollments = (courseId == null
+                ? enrollmentRepository.findAllByGradeLessThanEqual(threshold)
+                : enrollmentRepository.findAllByCourseIdAndGradeLessThanEqual(courseId, threshold))
                 .orElse(List.of());
 
-        return enrollments.stream()
-                .map(enrollmentMapper::toDto)
-                .collect(Collectors.toList());
+        return enrollmentMapper.toDtoList(enrollments);
+    }
+
+    /**
+     * Retrieves one page of the failing-students report using keyset pagination on the enrollment id.
+     * Rows are read through the {@link org.upstarters.enrollment.repository.EnrollmentView} projection
+     * and the course names of the whole page are resolved with a single remote call.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param threshold the highest grade still reported as failing
+     * @param course the name of the course to restrict the report to; null or empty for all courses
+     * @param cursor the token returned with the previous page; null or empty for the first page
+     * @param limit the maximum number of enrollments to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return the enrollments of the page and the token of the following page, or a null token on the last page
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     * @throws EntityNotFoundException if a course is given and it is not found
+     * @see EnrollmentMapper#viewsToDtoList(List)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EnrollmentPageDTO getFailingStudentsPage(double threshold, String course, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Long lastId = decodePageToken(cursor);
+        Long courseId = resolveOptionalCourseId(course);
+
+        List<EnrollmentView> enrollments = courseId == null
+                ? enrollmentRepository.findAllByGradeLessThanEqualAndIdGreaterThanOrderByIdAsc(
+                        threshold, lastId, Limit.of(limit + 1))
+                : enrollmentRepository.findAllByCourseIdAndGradeLessThanEqualAndIdGreaterThanOrderByIdAsc(
+                        courseId, threshold, lastId, Limit.of(limit + 1));
+
+        String nextToken = null;
+        if (enrollments.size() > limit) {
+            enrollments = enrollments.subList(0, limit);
+            nextToken = encodePageToken(enrollments.get(limit - 1).getId());
+        }
+
+        return new EnrollmentPageDTO(enrollmentMapper.viewsToDtoList(enrollments), nextToken);
+    }
+
+    /**
+     * Streams the whole failing-students report, ordered by id, to the given consumer in fixed-size chunks.
+     * Rows are read through a database cursor into the read-only
+     * {@link org.upstarters.enrollment.repository.EnrollmentView} projection, so no entity is kept
+     * in the persistence context, and course names are resolved once per chunk.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param threshold the highest grade still reported as failing
+     * @param course the name of the course to restrict the report to; null or empty for all courses
+     * @param chunkConsumer receives consecutive chunks of at most {@value #STREAM_CHUNK_SIZE} enrollment DTOs
+     * @throws EntityNotFoundException if a course is given and it is not found
+     * @since 1.1
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamFailingStudents(double threshold, String course, Consumer<List<EnrollmentDTO>> chunkConsumer) {
+        Long courseId = resolveOptionalCourseId(course);
+
+        try (Stream<EnrollmentView> enrollments = courseId == null
+                ? enrollmentRepository.streamAllByGradeLessThanEqualOrderByIdAsc(threshold)
+                : enrollmentRepository.streamAllByCourseIdAndGradeLessThanEqualOrderByIdAsc(courseId, threshold)) {
+            forEachChunk(enrollments, chunk -> chunkConsumer.accept(enrollmentMapper.viewsToDtoList(chunk)));
+        }
+    }
+
+    private Long resolveOptionalCourseId(String course) {
+        if (course == null || course.isEmpty()) {
+            return null;
+        }
+
+        Long courseId = courseAPIService.getCourseIdByName(course);
+        if (courseId == null) {
+            throw new EntityNotFoundException("Course not found with name: " + course);
+        }
+        return courseId;
     }
 
     /**
@@ -233,11 +689,37 @@ public class EnrollmentService implements IEnrollmentService {
      * @return a list of up to 5 enrollment DTOs with the highest grades; empty list if none found
      * @throws EntityNotFoundException if the course with the given name is not found
      * @see EnrollmentDTO
-     * @see CourseAPIService#getCourseIdByName(String)
+     * @see #getTopInCourse(String, int)
      * @since 1.0
      */
     @Override
     public List<EnrollmentDTO> getTop5InCourse(String course) {
+        return getTopInCourse(course, 5);
+    }
+
+    /**
+     * Retrieves the top {@code n} students in a specific course based on grades.
+     * The ranking is done by the database with an {@code ORDER BY grade DESC LIMIT n} query
+     * served by the {@code (course_id, grade, id)} index, so only the returned rows are read
+     * and mapped. Equal grades are ordered by enrollment id, so ties always resolve
+     * in the same order.
+     *
+     * @author Popa Marian-Iulian
+     *
+     * @param course the name of the course
+     * @param n the number of enrollments to return, between 1 and {@value #MAX_TOP_N}
+     * @return a list of up to {@code n} enrollment DTOs with the highest grades; empty list if none found
+     * @throws IllegalArgumentException if {@code n} is out of range
+     * @throws EntityNotFoundException if the course with the given name is not found
+     * @see EnrollmentRepository#findAllByCourseIdOrderByGradeDescIdAsc(Long, Limit)
+     * @see CourseAPIService#getCourseIdByName(String)
+     * @since 1.1
+     */
+    @Override
+    public List<EnrollmentDTO> getTopInCourse(String course, int n) {
+        if (n < 1 || n > MAX_TOP_N) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_TOP_N);
+        }
 
         Long courseId = courseAPIService.getCourseIdByName(course);
 
@@ -245,13 +727,9 @@ public class EnrollmentService implements IEnrollmentService {
             throw new EntityNotFoundException("Course not found with name: " + course);
         }
 
-        List<Enrollment> enrollments = enrollmentRepository.findAllByCourseId(courseId).orElse(List.of());
-
-        return enrollments.stream().map(enrollmentMapper::toDto)
-                .sorted(Comparator.comparing(EnrollmentDTO::getGrade).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
+        List<Enrollment> topEnrollments = enrollmentRepository.findAllByCourseIdOrderByGradeDescIdAsc(courseId, Limit.of(n));
 
+        return enrollmentMapper.toDtoList(topEnrollments);
     }
 
     /**
@@ -277,9 +755,7 @@ public class EnrollmentService implements IEnrollmentService {
         List<Enrollment> enrollments = enrollmentRepository.findAllByStudentEmail(studentEmail)
                 .orElse(List.of());
 
-        return enrollments.stream()
-                .map(enrollmentMapper::toDto)
-                .collect(Collectors.toList());
+        return enrollmentMapper.toDtoList(enrollments);
     }
 
     /**
@@ -315,6 +791,7 @@ public class EnrollmentService implements IEnrollmentService {
      * Updates a student's email address across all enrollment records.
      * This method performs a cascading update, first updating the student's email
      * in the student service, then updating all associated enrollment records.
+     * The student lookup and the read of the student's enrollments run concurrently.
      * Returns the enrollment DTO of the first updated enrollment.
      *
      * @author Popa Marian-Iulian
@@ -334,7 +811,11 @@ public class EnrollmentService implements IEnrollmentService {
     @Override
     public EnrollmentDTO updateStudentEmailInEnrollments(String oldEmail, String newEmail) {
 
-        StudentDTO student = studentAPIService.getStudentByEmail(oldEmail);
+        Both<StudentDTO, List<Enrollment>> lookups = parallelCalls.both(
+                () -> studentAPIService.getStudentByEmail(oldEmail),
+                () -> enrollmentRepository.findAllByStudentEmail(oldEmail).orElse(List.of()));
+
+        StudentDTO student = lookups.first();
 
         if (student == null) {
             throw new EntityNotFoundException("Student not found with email: " + oldEmail);
@@ -347,8 +828,7 @@ public class EnrollmentService implements IEnrollmentService {
         if (response == null) {
             throw new RuntimeException("Failed to update student email in student service from " + oldEmail + " to " + newEmail);
         } else {
-            List<Enrollment> enrollments = enrollmentRepository.findAllByStudentEmail(oldEmail)
-                .orElse(List.of());
+            List<Enrollment> enrollments = lookups.second();
 
             if (enrollments.isEmpty()) {
                 throw new EntityNotFoundException("No enrollments found for student with email: " + oldEmail);
@@ -1,21 +1,34 @@
 package org.upstarters.enrollment.service.enrollment;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.upstarters.enrollment.dto.EnrollmentBulkResponseDTO;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
+import org.upstarters.enrollment.dto.EnrollmentPageDTO;
+import org.upstarters.enrollment.dto.EnrollmentRequestDTO;
 import org.upstarters.enrollment.dto.EnrollmentUpdateDTO;
 import org.upstarters.enrollment.dto.StudentDTO;
 import org.upstarters.enrollment.entity.Enrollment;
 
 public interface IEnrollmentService {
     void enrollStudentInCourse(String studentName, String courseName);
+    EnrollmentBulkResponseDTO bulkEnroll(List<EnrollmentRequestDTO> requests);
+    EnrollmentBulkResponseDTO bulkEnrollFromCsv(InputStream csv);
     List<Enrollment> getAllEnrollments();
+    EnrollmentPageDTO getEnrollmentsPage(String next, int limit);
+    void streamAllEnrollments(Consumer<List<EnrollmentDTO>> chunkConsumer);
     EnrollmentDTO getEnrollment(Long enrollmentId);
     void updateEnrollment(Long enrollmentId, EnrollmentUpdateDTO enrollmentUpdateDTO);
     void deleteEnrollment(Long enrollmentId);
     List<EnrollmentDTO> studentsFilteredByCourse(String course);
     List<EnrollmentDTO> failingStudents();
+    List<EnrollmentDTO> failingStudents(double threshold, String course);
+    EnrollmentPageDTO getFailingStudentsPage(double threshold, String course, String cursor, int limit);
+    void streamFailingStudents(double threshold, String course, Consumer<List<EnrollmentDTO>> chunkConsumer);
     List<EnrollmentDTO> getTop5InCourse(String course);
+    List<EnrollmentDTO> getTopInCourse(String course, int n);
     List<EnrollmentDTO> getEnrollmentsByStudent(String student);
     StudentDTO getStudentDetailsFromEnrollment(Long enrollmentId);
     EnrollmentDTO updateStudentEmailInEnrollments(String oldEmail, String newEmail);
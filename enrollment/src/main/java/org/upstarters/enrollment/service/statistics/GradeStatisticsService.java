@@ -0,0 +1,195 @@
+package org.upstarters.enrollment.service.statistics;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.upstarters.enrollment.dto.CourseGradeStatsDTO;
+import org.upstarters.enrollment.entity.CourseGradeStats;
+import org.upstarters.enrollment.entity.Enrollment;
+import org.upstarters.enrollment.repository.CourseGradeStatsRepository;
+import org.upstarters.enrollment.service.course.CourseAPIService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Service class maintaining and serving per-course grade statistics.
+ * Count, grade sum, number of passing grades and the minimum and maximum grade of every
+ * course are kept in the {@code course_grade_stats} summary table. The table is updated
+ * incrementally, in the same transaction as every enrollment write, so statistics requests
+ * read one row per course instead of aggregating the {@code enrollments} table.
+ * The median is the only value computed on demand, from the course's range of the
+ * {@code (course_id, grade)} index.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class GradeStatisticsService implements IGradeStatisticsService {
+
+    /**
+     * Grades strictly above this value are passing; the same threshold is used for failing students.
+     */
+    public static final double PASSING_GRADE = 5.0;
+
+    private final CourseGradeStatsRepository courseGradeStatsRepository;
+    private final CourseAPIService courseAPIService;
+
+    GradeStatisticsService(CourseGradeStatsRepository courseGradeStatsRepository,
+                           CourseAPIService courseAPIService) {
+        this.courseGradeStatsRepository = courseGradeStatsRepository;
+        this.courseAPIService = courseAPIService;
+    }
+
+    /**
+     * Adds newly created enrollments to the statistics of their courses.
+     * Enrollments are grouped by course, so a bulk import issues one upsert per course.
+     * Must be called inside the transaction that persists the enrollments.
+     *
+     * @author Popa Marian-Iulian
+     * @param enrollments the enrollments that were created
+     * @see CourseGradeStatsRepository#addGrades(Long, long, double, long, Double, Double)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(Collection<Enrollment> enrollments) {
+        Map<Long, List<Enrollment>> enrollmentsByCourse = enrollments.stream()
+                .filter(enrollment -> enrollment.getCourseId() != null)
+                .collect(Collectors.groupingBy(Enrollment::getCourseId, LinkedHashMap::new, Collectors.toList()));
+
+        enrollmentsByCourse.forEach((courseId, courseEnrollments) -> {
+            List<Double> grades = courseEnrollments.stream()
+                    .map(Enrollment::getGrade)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            courseGradeStatsRepository.addGrades(
+                    courseId,
+                    courseEnrollments.size(),
+                    grades.stream().mapToDouble(Double::doubleValue).sum(),
+                    grades.stream().filter(GradeStatisticsService::isPassing).count(),
+                    grades.stream().min(Comparator.naturalOrder()).orElse(null),
+                    grades.stream().max(Comparator.naturalOrder()).orElse(null));
+        });
+    }
+
+    /**
+     * Removes a deleted enrollment, or the old state of a changed one, from the statistics of its course.
+     * Count, sum and passing count are decremented; the minimum and maximum are re-read with
+     * two probes of the {@code (course_id, grade)} index, since the removed grade may have been
+     * either bound. Must be called inside the transaction that writes the enrollment, after the
+     * enrollment row has been changed.
+     *
+     * @author Popa Marian-Iulian
+     * @param courseId the course the enrollment belonged to
+     * @param grade the grade the enrollment had
+     * @see CourseGradeStatsRepository#removeGrades(Long, long, double, long)
+     * @see CourseGradeStatsRepository#refreshBounds(Long)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(Long courseId, Double grade) {
+        if (courseId == null) {
+            return;
+        }
+
+        courseGradeStatsRepository.removeGrades(
+                courseId,
+                1,
+                grade != null ? grade : 0.0,
+                isPassing(grade) ? 1 : 0);
+        courseGradeStatsRepository.refreshBounds(courseId);
+        courseGradeStatsRepository.deleteIfEmpty(courseId);
+    }
+
+    /**
+     * Retrieves the grade statistics of a single course, including the median grade.
+     *
+     * @author Popa Marian-Iulian
+     * @param course the name of the course
+     * @return the statistics of the course; a zero count and empty values if nobody is enrolled
+     * @throws EntityNotFoundException if the course with the given name is not found
+     * @see CourseAPIService#getCourseIdByName(String)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CourseGradeStatsDTO getCourseStatistics(String course) {
+        Long courseId = courseAPIService.getCourseIdByName(course);
+
+        if (courseId == null) {
+            throw new EntityNotFoundException("Course not found with name: " + course);
+        }
+
+        return courseGradeStatsRepository.findById(courseId)
+                .map(stats -> toDto(course, stats, courseGradeStatsRepository.findMedianGrade(courseId)))
+                .orElseGet(() -> new CourseGradeStatsDTO(course, 0, null, null, null, null, null));
+    }
+
+    /**
+     * Retrieves the grade statistics of every course that has enrollments, ordered by course id.
+     * Served entirely from the summary table; the median is left empty because it would
+     * require reading every enrollment.
+     *
+     * @author Popa Marian-Iulian
+     * @return the statistics of every course with at least one enrollment
+     * @see CourseAPIService#getCourseNamesByIds(Collection)
+     * @since 1.1
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseGradeStatsDTO> getAllCourseStatistics() {
+        List<CourseGradeStats> allStats = courseGradeStatsRepository.findAll().stream()
+                .sorted(Comparator.comparing(CourseGradeStats::getCourseId))
+                .toList();
+        Map<Long, String> courseNames = courseAPIService.getCourseNamesByIds(
+                allStats.stream().map(CourseGradeStats::getCourseId).toList());
+
+        return allStats.stream()
+                .map(stats -> toDto(courseNames.get(stats.getCourseId()), stats, null))
+                .toList();
+    }
+
+    /**
+     * Recomputes the whole summary table from the {@code enrollments} table with one
+     * aggregation query. Run on startup so the table is correct for enrollments written
+     * before it existed, and periodically to correct any drift.
+     *
+     * @author Popa Marian-Iulian
+     * @see CourseGradeStatsRepository#rebuildFromEnrollments(double)
+     * @since 1.1
+     */
+    @Override
+    @Transactional
+    public void rebuild() {
+        courseGradeStatsRepository.deleteAllStats();
+        courseGradeStatsRepository.rebuildFromEnrollments(PASSING_GRADE);
+    }
+
+    private static boolean isPassing(Double grade) {
+        return grade != null && grade > PASSING_GRADE;
+    }
+
+    private static CourseGradeStatsDTO toDto(String course, CourseGradeStats stats, Double median) {
+        long count = stats.getEnrollmentCount();
+
+        return new CourseGradeStatsDTO(
+                course,
+                count,
+                count > 0 ? stats.getGradeSum() / count : null,
+                stats.getMinGrade(),
+                stats.getMaxGrade(),
+                median,
+                count > 0 ? (double) stats.getPassingCount() / count : null);
+    }
+}
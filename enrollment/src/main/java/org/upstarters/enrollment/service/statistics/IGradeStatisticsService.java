@@ -0,0 +1,15 @@
+package org.upstarters.enrollment.service.statistics;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.upstarters.enrollment.dto.CourseGradeStatsDTO;
+import org.upstarters.enrollment.entity.Enrollment;
+
+public interface IGradeStatisticsService {
+    void recordAdded(Collection<Enrollment> enrollments);
+    void recordRemoved(Long courseId, Double grade);
+    CourseGradeStatsDTO getCourseStatistics(String course);
+    List<CourseGradeStatsDTO> getAllCourseStatistics();
+    void rebuild();
+}
@@ -1,10 +1,15 @@
 package org.upstarters.enrollment.service.student;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.upstarters.enrollment.dto.StudentDTO;
 public interface IStudentAPIService {
     String getStudentEmailById(Long studentId);
 
     StudentDTO getStudentByEmail(String email);
 
+    Map<String, StudentDTO> getStudentsByEmails(Collection<String> emails);
+
     StudentDTO updateStudentInfo(String oldEmail, StudentDTO studentDTO);
 }
@@ -1,5 +1,12 @@
 package org.upstarters.enrollment.service.student;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
 import org.upstarters.enrollment.dto.StudentDTO;
 
@@ -10,25 +17,30 @@ import feign.FeignException;
  * Provides methods to retrieve and update student information including student lookups
  * by ID or email, and student profile updates. This service acts as a wrapper around
  * the StudentFeignClient, handling exceptions and providing a clean API for student-related operations.
+ * Profile lookups by email are answered from the local {@link StudentProfileCache} when possible and
+ * only fall through to the student microservice on a cache miss.
  *
  * @author Popa Marian-Iulian
- * @version 1.0
+ * @version 1.1
  * @since 2026-01-12
  */
 @Service
 public class StudentAPIService implements IStudentAPIService {
 
     private final StudentFeignClient studentFeignClient;
+    private final StudentProfileCache studentProfileCache;
 
     /**
-     * Constructs a new StudentAPIService with the specified Feign client.
+     * Constructs a new StudentAPIService with the specified Feign client and profile cache.
      *
      * @author Popa Marian-Iulian
      * @param studentFeignClientInstance the Feign client instance for student service communication
+     * @param studentProfileCacheInstance the local cache of student profiles
      * @since 1.0
      */
-    StudentAPIService(StudentFeignClient studentFeignClientInstance) {
+    StudentAPIService(StudentFeignClient studentFeignClientInstance, StudentProfileCache studentProfileCacheInstance) {
         this.studentFeignClient = studentFeignClientInstance;
+        this.studentProfileCache = studentProfileCacheInstance;
     }
 
     /**
@@ -59,8 +71,10 @@ public class StudentAPIService implements IStudentAPIService {
 
     /**
      * Retrieves complete student information by email address.
-     * Makes a remote call to the student microservice to fetch the full student profile.
-     * Returns null if no student is found with the specified email address.
+     * Answers from the local profile cache when the student was looked up recently; otherwise
+     * makes a remote call to the student microservice to fetch the full student profile.
+     * Returns null if no student is found with the specified email address; such emails are
+     * cached as unknown for a short time.
      *
      * @author Popa Marian-Iulian
      * @param email the email address of the student to look up
@@ -72,21 +86,85 @@ public class StudentAPIService implements IStudentAPIService {
      */
     @Override
     public StudentDTO getStudentByEmail(String email) {
+        StudentDTO cachedStudent = studentProfileCache.getStudent(email);
+        if (cachedStudent != null) {
+            return cachedStudent;
+        }
+
+        if (studentProfileCache.isUnknownEmail(email)) {
+            return null;
+        }
+
         try {
             StudentDTO response = studentFeignClient.getStudentByEmail(email);
+            studentProfileCache.put(email, response);
             return response;
         } catch (FeignException.NotFound e) {
+            studentProfileCache.markUnknownEmail(email);
             return null;
         } catch (Exception e) {
             throw new RuntimeException("Failed to get student by email: " + email, e);
         }
     }
 
+    /**
+     * Retrieves the profiles of many students at once, keyed by email address.
+     * Profiles found in the local cache and emails recently reported as unknown are answered
+     * locally; all remaining emails are resolved with a single remote call to the student
+     * microservice. The fetched profiles are cached, and requested emails the student service
+     * did not return are cached as unknown.
+     *
+     * @author Popa Marian-Iulian
+     * @param emails the email addresses of the students to look up
+     * @return a map from email to student profile for every student that was found
+     * @throws RuntimeException if the remote service call fails or an error occurs during processing
+     * @see StudentFeignClient#getStudentsByEmails(List)
+     * @see StudentDTO
+     * @since 1.1
+     */
+    @Override
+    public Map<String, StudentDTO> getStudentsByEmails(Collection<String> emails) {
+        Map<String, StudentDTO> students = new HashMap<>();
+        List<String> missingEmails = new ArrayList<>();
+
+        for (String email : new LinkedHashSet<>(emails)) {
+            StudentDTO cachedStudent = studentProfileCache.getStudent(email);
+            if (cachedStudent != null) {
+                students.put(email, cachedStudent);
+            } else if (email != null && !studentProfileCache.isUnknownEmail(email)) {
+                missingEmails.add(email);
+            }
+        }
+
+        if (missingEmails.isEmpty()) {
+            return students;
+        }
+
+        try {
+            for (StudentDTO student : studentFeignClient.getStudentsByEmails(missingEmails)) {
+                studentProfileCache.put(student.getEmail(), student);
+                students.put(student.getEmail(), student);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get " + missingEmails.size() + " students by email", e);
+        }
+
+        for (String email : missingEmails) {
+            if (!students.containsKey(email)) {
+                studentProfileCache.markUnknownEmail(email);
+            }
+        }
+
+        return students;
+    }
+
     /**
      * Updates student information in the student microservice.
      * Makes a remote call to update the student's profile with the provided information.
      * The old email is used to identify the student record to update, while the studentDTO
      * contains the new information including potentially a new email address.
+     * Both the old and the new email are evicted from the profile cache, whether or not the
+     * update succeeds, since a failed call may still have been applied remotely.
      *
      * @author Popa Marian-Iulian
      * @param oldEmail the current email address of the student to identify the record
@@ -104,6 +182,11 @@ public class StudentAPIService implements IStudentAPIService {
             return response;
         } catch (Exception e) {
             throw new RuntimeException("Failed to update student with email: " + studentDTO.getEmail(), e);
+        } finally {
+            studentProfileCache.evict(oldEmail);
+            if (studentDTO != null) {
+                studentProfileCache.evict(studentDTO.getEmail());
+            }
         }
     }
 }
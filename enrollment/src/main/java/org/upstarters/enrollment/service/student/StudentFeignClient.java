@@ -3,15 +3,21 @@ package org.upstarters.enrollment.service.student;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.upstarters.enrollment.dto.StudentDTO;
 
+import java.util.List;
+
 @FeignClient(name = "students", path = "/students")
 public interface StudentFeignClient {
     @GetMapping("/getByEmail/{email}")
     StudentDTO getStudentByEmail(@PathVariable("email") String email);
 
+    @PostMapping("/getByEmails")
+    List<StudentDTO> getStudentsByEmails(@RequestBody List<String> emails);
+
     @GetMapping("/getStudentById/{studentId}")
     StudentDTO getStudentById(@PathVariable("studentId") Long studentId);
 
@@ -0,0 +1,138 @@
+package org.upstarters.enrollment.service.student;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.upstarters.enrollment.dto.StudentDTO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded near-cache of student profiles used by {@link StudentAPIService}, keyed by email.
+ * Student profiles rarely change, so enrollment creation, per-student listings and student
+ * details are answered locally instead of calling the student microservice every time.
+ * Emails the student service reported as unknown are remembered for a shorter period.
+ * Profiles are stored and returned as copies, so callers may modify what they receive.
+ * Entries expire after a configurable time to live, which also bounds how long a change made
+ * directly in the student service stays invisible here.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class StudentProfileCache {
+
+    static final String PROFILES_BY_EMAIL = "studentProfilesByEmail";
+    static final String UNKNOWN_EMAILS = "unknownStudentEmails";
+
+    private final Cache<String, StudentDTO> profilesByEmail;
+    private final Cache<String, Boolean> unknownEmails;
+
+    /**
+     * Constructs the cache with the configured expiry and size bounds and registers
+     * its hit/miss statistics with the meter registry.
+     *
+     * @author Popa Marian-Iulian
+     * @param ttl how long a student profile is kept
+     * @param negativeTtl how long an email reported as unknown is kept
+     * @param maximumSize the maximum number of profiles and of unknown emails kept
+     * @param meterRegistry the registry the cache statistics are published to
+     * @since 1.0
+     */
+    @Autowired
+    public StudentProfileCache(@Value("${enrollment.student-cache.ttl:5m}") Duration ttl,
+                               @Value("${enrollment.student-cache.negative-ttl:30s}") Duration negativeTtl,
+                               @Value("${enrollment.student-cache.maximum-size:10000}") long maximumSize,
+                               MeterRegistry meterRegistry) {
+        this.profilesByEmail = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).recordStats().<String, StudentDTO>build(),
+                PROFILES_BY_EMAIL);
+        this.unknownEmails = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().expireAfterWrite(negativeTtl).maximumSize(maximumSize).recordStats().<String, Boolean>build(),
+                UNKNOWN_EMAILS);
+    }
+
+    public StudentDTO getStudent(String email) {
+        return email == null ? null : copy(profilesByEmail.getIfPresent(email));
+    }
+
+    public boolean isUnknownEmail(String email) {
+        return email != null && unknownEmails.getIfPresent(email) != null;
+    }
+
+    public void put(String email, StudentDTO student) {
+        if (email == null || student == null) {
+            return;
+        }
+        profilesByEmail.put(email, copy(student));
+        unknownEmails.invalidate(email);
+    }
+
+    public void markUnknownEmail(String email) {
+        if (email != null) {
+            unknownEmails.put(email, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Forgets everything known about an email, both the cached profile and any
+     * negative entry recorded for it.
+     *
+     * @author Popa Marian-Iulian
+     * @param email the email of the student to forget
+     * @since 1.0
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        profilesByEmail.invalidate(email);
+        unknownEmails.invalidate(email);
+    }
+
+    public void evictAll() {
+        profilesByEmail.invalidateAll();
+        unknownEmails.invalidateAll();
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of the profile cache and of the
+     * unknown email cache, keyed by cache name.
+     *
+     * @author Popa Marian-Iulian
+     * @return a map from cache name to its current statistics
+     * @since 1.0
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put(PROFILES_BY_EMAIL, describe(profilesByEmail));
+        stats.put(UNKNOWN_EMAILS, describe(unknownEmails));
+        return stats;
+    }
+
+    private static StudentDTO copy(StudentDTO student) {
+        return student == null ? null
+                : new StudentDTO(student.getFirstName(), student.getLastName(), student.getEmail(), student.getMajor());
+    }
+
+    private static Map<String, Object> describe(Cache<?, ?> cache) {
+        CacheStats cacheStats = cache.stats();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", cache.estimatedSize());
+        description.put("hits", cacheStats.hitCount());
+        description.put("misses", cacheStats.missCount());
+        description.put("hitRate", cacheStats.hitRate());
+        description.put("evictions", cacheStats.evictionCount());
+        return description;
+    }
+}
@@ -0,0 +1,45 @@
+package org.upstarters.enrollment.service.student;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the local student profile cache.
+ * {@code GET /actuator/studentcache} returns the hit/miss counters,
+ * {@code DELETE /actuator/studentcache} clears the whole cache and
+ * {@code DELETE /actuator/studentcache/{email}} forgets a single student.
+ *
+ * @author Popa Marian-Iulian
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Endpoint(id = "studentcache")
+public class StudentProfileCacheEndpoint {
+
+    private final StudentProfileCache studentProfileCache;
+
+    StudentProfileCacheEndpoint(StudentProfileCache studentProfileCache) {
+        this.studentProfileCache = studentProfileCache;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> stats() {
+        return studentProfileCache.stats();
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        studentProfileCache.evictAll();
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String email) {
+        studentProfileCache.evict(email);
+    }
+}
@@ -2,16 +2,21 @@ package org.upstarters.enrollment.Controller;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -24,22 +29,33 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.upstarters.enrollment.controller.EnrollmentController;
+import org.upstarters.enrollment.dto.CourseGradeStatsDTO;
+import org.upstarters.enrollment.dto.CourseTitleReconciliationDTO;
+import org.upstarters.enrollment.dto.EnrollmentBulkResponseDTO;
+import org.upstarters.enrollment.dto.EnrollmentBulkResultDTO;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
+import org.upstarters.enrollment.dto.EnrollmentPageDTO;
 import org.upstarters.enrollment.dto.EnrollmentRequestDTO;
 import org.upstarters.enrollment.dto.EnrollmentUpdateDTO;
 import org.upstarters.enrollment.dto.StudentDTO;
 import org.upstarters.enrollment.entity.Enrollment;
 import org.upstarters.enrollment.mapper.EnrollmentMapper;
+import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.coursetitle.CourseTitleService;
 import org.upstarters.enrollment.service.enrollment.EnrollmentService;
+import org.upstarters.enrollment.service.statistics.GradeStatisticsService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -55,15 +71,24 @@ class EnrollmentControllerTest {
     @Mock
     private EnrollmentMapper enrollmentMapper;
 
+    @Mock
+    private GradeStatisticsService gradeStatisticsService;
+
+    @Mock
+    private CourseAPIService courseAPIService;
+
+    @Mock
+    private CourseTitleService courseTitleService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private EnrollmentController enrollmentController;
 
-    private ObjectMapper objectMapper;
-
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(enrollmentController).build();
-        objectMapper = new ObjectMapper();
     }
 
     @Test
@@ -156,8 +181,8 @@ class EnrollmentControllerTest {
         EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", "Physics 101", "2026-01-02", 9.0);
 
         when(enrollmentService.getAllEnrollments()).thenReturn(Arrays.asList(enrollment1, enrollment2));
-        when(enrollmentMapper.toDto(enrollment1)).thenReturn(dto1);
-        when(enrollmentMapper.toDto(enrollment2)).thenReturn(dto2);
+        when(enrollmentMapper.toDtoList(Arrays.asList(enrollment1, enrollment2)))
+                .thenReturn(Arrays.asList(dto1, dto2));
 
         mockMvc.perform(get("/enrollments/all"))
                 .andExpect(status().isOk())
@@ -180,6 +205,110 @@ class EnrollmentControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testBulkCreateEnrollments_Json() throws Exception {
+        List<EnrollmentRequestDTO> requests = List.of(
+                new EnrollmentRequestDTO("student1@example.com", "Math 101"),
+                new EnrollmentRequestDTO("student2@example.com", "Unknown"));
+        EnrollmentBulkResponseDTO response = new EnrollmentBulkResponseDTO(List.of(
+                new EnrollmentBulkResultDTO(1, "student1@example.com", "Math 101", true, "Enrollment created successfully"),
+                new EnrollmentBulkResultDTO(2, "student2@example.com", "Unknown", false, "Course not found with name: Unknown")));
+
+        when(enrollmentService.bulkEnroll(any())).thenReturn(response);
+
+        mockMvc.perform(post("/enrollments/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].message").value("Course not found with name: Unknown"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testBulkCreateEnrollments_Csv() throws Exception {
+        when(enrollmentService.bulkEnrollFromCsv(any()))
+                .thenReturn(new EnrollmentBulkResponseDTO(List.of(
+                        new EnrollmentBulkResultDTO(1, "student1@example.com", "Math 101", true, "Enrollment created successfully"))));
+
+        mockMvc.perform(post("/enrollments/bulk")
+                        .contentType("text/csv")
+                        .content("student1@example.com,Math 101\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+
+        verify(enrollmentService, times(1)).bulkEnrollFromCsv(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testBulkCreateEnrollments_TooManyRows() throws Exception {
+        when(enrollmentService.bulkEnroll(any()))
+                .thenThrow(new IllegalArgumentException("At most 10000 enrollments can be imported at once"));
+
+        mockMvc.perform(post("/enrollments/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetEnrollmentsPage_Success() throws Exception {
+        EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-01", 8.5);
+
+        when(enrollmentService.getEnrollmentsPage(null, 1))
+                .thenReturn(new EnrollmentPageDTO(List.of(dto1), "MQ"));
+
+        mockMvc.perform(get("/enrollments/all/page").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].student").value("student1@example.com"))
+                .andExpect(jsonPath("$.next").value("MQ"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetEnrollmentsPage_InvalidToken() throws Exception {
+        when(enrollmentService.getEnrollmentsPage("bad", 50))
+                .thenThrow(new IllegalArgumentException("Invalid page token: bad"));
+
+        mockMvc.perform(get("/enrollments/all/page").param("next", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testStreamAllEnrollments_WritesNdjson() throws Exception {
+        EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-01", 8.5);
+        EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", "Physics 101", "2026-01-02", 9.0);
+
+        doAnswer(invocation -> {
+            Consumer<List<EnrollmentDTO>> consumer = invocation.getArgument(0);
+            consumer.accept(List.of(dto1, dto2));
+            return null;
+        }).when(enrollmentService).streamAllEnrollments(any());
+
+        MvcResult result = mockMvc.perform(get("/enrollments/all/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("student1@example.com",
+                objectMapper.readTree(lines[0]).get("student").asText());
+        assertEquals("Physics 101",
+                objectMapper.readTree(lines[1]).get("course").asText());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetEnrollmentById_Success() throws Exception {
@@ -314,7 +443,7 @@ class EnrollmentControllerTest {
         EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-01", 4.0);
         EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", "Physics 101", "2026-01-02", 3.5);
 
-        when(enrollmentService.failingStudents()).thenReturn(Arrays.asList(dto1, dto2));
+        when(enrollmentService.failingStudents(5.0, null)).thenReturn(Arrays.asList(dto1, dto2));
 
         mockMvc.perform(get("/enrollments/students/failed"))
                 .andExpect(status().isOk())
@@ -322,19 +451,97 @@ class EnrollmentControllerTest {
                 .andExpect(jsonPath("$[0].grade").value(4.0))
                 .andExpect(jsonPath("$[1].grade").value(3.5));
 
-        verify(enrollmentService, times(1)).failingStudents();
+        verify(enrollmentService, times(1)).failingStudents(5.0, null);
     }
 
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetStudentsWithFailingGrades_EmptyList() throws Exception {
-        when(enrollmentService.failingStudents()).thenReturn(Arrays.asList());
+        when(enrollmentService.failingStudents(5.0, null)).thenReturn(Arrays.asList());
 
         mockMvc.perform(get("/enrollments/students/failed"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetStudentsWithFailingGrades_ThresholdAndCourse() throws Exception {
+        EnrollmentDTO dto = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-01", 5.5);
+
+        when(enrollmentService.failingStudents(6.0, "Math 101")).thenReturn(List.of(dto));
+
+        mockMvc.perform(get("/enrollments/students/failed")
+                        .param("threshold", "6.0")
+                        .param("course", "Math 101"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].grade").value(5.5));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetStudentsWithFailingGradesPage_Success() throws Exception {
+        EnrollmentDTO dto = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-01", 4.0);
+
+        when(enrollmentService.getFailingStudentsPage(5.0, null, "abc", 20))
+                .thenReturn(new EnrollmentPageDTO(List.of(dto), "def"));
+
+        mockMvc.perform(get("/enrollments/students/failed/page")
+                        .param("cursor", "abc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.next").value("def"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetStudentsWithFailingGradesPage_InvalidCursor() throws Exception {
+        when(enrollmentService.getFailingStudentsPage(5.0, null, "bad", 50))
+                .thenThrow(new IllegalArgumentException("Invalid page token: bad"));
+
+        mockMvc.perform(get("/enrollments/students/failed/page").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testStreamStudentsWithFailingGrades_Success() throws Exception {
+        EnrollmentDTO dto = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-01", 3.0);
+
+        when(courseAPIService.getCourseIdByName("Math 101")).thenReturn(1L);
+        doAnswer(invocation -> {
+            Consumer<List<EnrollmentDTO>> consumer = invocation.getArgument(2);
+            consumer.accept(List.of(dto));
+            return null;
+        }).when(enrollmentService).streamFailingStudents(eq(4.0), eq("Math 101"), any());
+
+        MvcResult result = mockMvc.perform(get("/enrollments/students/failed/stream")
+                        .param("threshold", "4.0")
+                        .param("course", "Math 101"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("student1@example.com", objectMapper.readTree(body.trim()).get("student").asText());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testStreamStudentsWithFailingGrades_CourseNotFound() throws Exception {
+        when(courseAPIService.getCourseIdByName("Unknown")).thenReturn(null);
+
+        mockMvc.perform(get("/enrollments/students/failed/stream").param("course", "Unknown"))
+                .andExpect(status().isNotFound());
+
+        verify(enrollmentService, never()).streamFailingStudents(anyDouble(), anyString(), any());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetTop5StudentsInCourse_Success() throws Exception {
@@ -370,6 +577,85 @@ class EnrollmentControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetTopStudentsInCourse_CustomN() throws Exception {
+        String courseName = "Math 101";
+        List<EnrollmentDTO> topStudents = Arrays.asList(
+                new EnrollmentDTO("student1@example.com", courseName, "2026-01-01", 10.0),
+                new EnrollmentDTO("student2@example.com", courseName, "2026-01-02", 9.8)
+        );
+
+        when(enrollmentService.getTopInCourse(courseName, 2)).thenReturn(topStudents);
+
+        mockMvc.perform(get("/enrollments/course/{course}/top", courseName).param("n", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].grade").value(10.0));
+
+        verify(enrollmentService, times(1)).getTopInCourse(courseName, 2);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetTopStudentsInCourse_DefaultN() throws Exception {
+        String courseName = "Math 101";
+
+        when(enrollmentService.getTopInCourse(courseName, 5)).thenReturn(List.of());
+
+        mockMvc.perform(get("/enrollments/course/{course}/top", courseName))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetTopStudentsInCourse_InvalidN() throws Exception {
+        String courseName = "Math 101";
+
+        when(enrollmentService.getTopInCourse(courseName, 0))
+                .thenThrow(new IllegalArgumentException("n must be between 1 and 100"));
+
+        mockMvc.perform(get("/enrollments/course/{course}/top", courseName).param("n", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetCourseStatistics_Success() throws Exception {
+        when(gradeStatisticsService.getCourseStatistics("Math 101"))
+                .thenReturn(new CourseGradeStatsDTO("Math 101", 4, 7.0, 4.0, 9.0, 7.5, 0.75));
+
+        mockMvc.perform(get("/enrollments/course/{course}/stats", "Math 101"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollmentCount").value(4))
+                .andExpect(jsonPath("$.mean").value(7.0))
+                .andExpect(jsonPath("$.median").value(7.5))
+                .andExpect(jsonPath("$.passRate").value(0.75));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetCourseStatistics_NotFound() throws Exception {
+        when(gradeStatisticsService.getCourseStatistics("Unknown"))
+                .thenThrow(new RuntimeException("Course not found"));
+
+        mockMvc.perform(get("/enrollments/course/{course}/stats", "Unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetAllCourseStatistics() throws Exception {
+        when(gradeStatisticsService.getAllCourseStatistics()).thenReturn(List.of(
+                new CourseGradeStatsDTO("Math 101", 4, 7.0, 4.0, 9.0, null, 0.75)));
+
+        mockMvc.perform(get("/enrollments/courses/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].course").value("Math 101"));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetStudentDetailsFromEnrollment_Success() throws Exception {
@@ -435,4 +721,45 @@ class EnrollmentControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Student not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testRenameCourse_Success() throws Exception {
+        when(courseTitleService.renameCourse(1L, "Calculus I")).thenReturn(3);
+
+        mockMvc.perform(put("/enrollments/courses/1/title").param("title", "Calculus I"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testRemoveCourse_Success() throws Exception {
+        when(courseTitleService.removeCourse(1L)).thenReturn(3);
+
+        mockMvc.perform(delete("/enrollments/courses/1/title"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testReconcileCourseTitles_Success() throws Exception {
+        when(courseTitleService.reconcile()).thenReturn(new CourseTitleReconciliationDTO(4, 7, 1));
+
+        mockMvc.perform(post("/enrollments/courses/titles/reconcile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedCourses").value(4))
+                .andExpect(jsonPath("$.updatedEnrollments").value(7))
+                .andExpect(jsonPath("$.missingCourses").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testReconcileCourseTitles_CourseServiceDown() throws Exception {
+        when(courseTitleService.reconcile()).thenThrow(new RuntimeException("Failed to get course names"));
+
+        mockMvc.perform(post("/enrollments/courses/titles/reconcile"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
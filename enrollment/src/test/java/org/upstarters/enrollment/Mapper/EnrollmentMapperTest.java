@@ -1,17 +1,24 @@
 package org.upstarters.enrollment.Mapper;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
 import org.upstarters.enrollment.entity.Enrollment;
 import org.upstarters.enrollment.mapper.EnrollmentMapper;
+import org.upstarters.enrollment.repository.EnrollmentView;
 import org.upstarters.enrollment.service.course.CourseAPIService;
 
 @ExtendWith(MockitoExtension.class)
@@ -312,4 +320,111 @@ class EnrollmentMapperTest {
         assertEquals("2024-02-29", result.getEnrollmentDate());
         verify(courseAPIService, times(1)).getCourseNameById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testToDtoList_ResolvesDistinctCourseIdsInOneCall() {
+        Enrollment enrollment1 = new Enrollment("student1@example.com", 1L, LocalDate.of(2026, 1, 10), 8.5);
+        Enrollment enrollment2 = new Enrollment("student2@example.com", 2L, LocalDate.of(2026, 1, 11), 9.0);
+        Enrollment enrollment3 = new Enrollment("student3@example.com", 1L, LocalDate.of(2026, 1, 12), 7.0);
+
+        when(courseAPIService.getCourseNamesByIds(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, "Math 101", 2L, "Physics 101"));
+
+        List<EnrollmentDTO> result = enrollmentMapper.toDtoList(Arrays.asList(enrollment1, enrollment2, enrollment3));
+
+        assertEquals(3, result.size());
+        assertEquals("Math 101", result.get(0).getCourse());
+        assertEquals("Physics 101", result.get(1).getCourse());
+        assertEquals("Math 101", result.get(2).getCourse());
+        assertEquals("student3@example.com", result.get(2).getStudent());
+        assertEquals("2026-01-12", result.get(2).getEnrollmentDate());
+        verify(courseAPIService, times(1)).getCourseNamesByIds(Set.of(1L, 2L));
+        verify(courseAPIService, never()).getCourseNameById(anyLong());
+    }
+
+    @Test
+    void testToDtoList_UnknownCourseId() {
+        when(courseAPIService.getCourseNamesByIds(Set.of(1L))).thenReturn(Map.of());
+
+        List<EnrollmentDTO> result = enrollmentMapper.toDtoList(List.of(testEnrollment));
+
+        assertEquals(1, result.size());
+        assertNull(result.get(0).getCourse());
+        assertEquals("john.doe@example.com", result.get(0).getStudent());
+    }
+
+    @Test
+    void testToDtoList_EmptyList() {
+        List<EnrollmentDTO> result = enrollmentMapper.toDtoList(List.of());
+
+        assertTrue(result.isEmpty());
+        verify(courseAPIService, never()).getCourseNamesByIds(anyCollection());
+    }
+
+    @Test
+    void testViewsToDtoList_BatchesCourseLookup() {
+        EnrollmentView view1 = mock(EnrollmentView.class);
+        EnrollmentView view2 = mock(EnrollmentView.class);
+        when(view1.getStudentEmail()).thenReturn("student1@example.com");
+        when(view1.getCourseId()).thenReturn(1L);
+        when(view1.getEnrollmentDate()).thenReturn(LocalDate.of(2026, 1, 12));
+        when(view1.getGrade()).thenReturn(4.0);
+        when(view2.getStudentEmail()).thenReturn("student2@example.com");
+        when(view2.getCourseId()).thenReturn(2L);
+        when(view2.getGrade()).thenReturn(3.0);
+        when(courseAPIService.getCourseNamesByIds(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, "Math 101", 2L, "Physics 101"));
+
+        List<EnrollmentDTO> result = enrollmentMapper.viewsToDtoList(List.of(view1, view2));
+
+        assertEquals(2, result.size());
+        assertEquals("Math 101", result.get(0).getCourse());
+        assertEquals("2026-01-12", result.get(0).getEnrollmentDate());
+        assertEquals("Physics 101", result.get(1).getCourse());
+        assertNull(result.get(1).getEnrollmentDate());
+        verify(courseAPIService, never()).getCourseNameById(anyLong());
+    }
+
+    @Test
+    void testToDto_StoredCourseTitle() {
+        testEnrollment.setCourseTitle("Math 101");
+
+        EnrollmentDTO result = enrollmentMapper.toDto(testEnrollment);
+
+        assertEquals("Math 101", result.getCourse());
+        verify(courseAPIService, never()).getCourseNameById(anyLong());
+    }
+
+    @Test
+    void testToDtoList_StoredCourseTitlesAreLocal() {
+        testEnrollment.setCourseTitle("Math 101");
+        Enrollment legacyEnrollment = new Enrollment("student2@example.com", 2L, LocalDate.of(2026, 1, 12), 7.0);
+
+        when(courseAPIService.getCourseNamesByIds(Set.of(2L))).thenReturn(Map.of(2L, "Physics 101"));
+
+        List<EnrollmentDTO> result = enrollmentMapper.toDtoList(List.of(testEnrollment, legacyEnrollment));
+
+        assertEquals("Math 101", result.get(0).getCourse());
+        assertEquals("Physics 101", result.get(1).getCourse());
+    }
+
+    @Test
+    void testToDtoList_AllTitlesStored() {
+        testEnrollment.setCourseTitle("Math 101");
+
+        List<EnrollmentDTO> result = enrollmentMapper.toDtoList(List.of(testEnrollment));
+
+        assertEquals("Math 101", result.get(0).getCourse());
+        verify(courseAPIService, never()).getCourseNamesByIds(anyCollection());
+    }
+
+    @Test
+    void testToDtoList_RemovedCourseIsNotLookedUp() {
+        testEnrollment.setCourseRemoved(true);
+
+        List<EnrollmentDTO> result = enrollmentMapper.toDtoList(List.of(testEnrollment));
+
+        assertNull(result.get(0).getCourse());
+        verify(courseAPIService, never()).getCourseNamesByIds(anyCollection());
+    }
+}
@@ -1,8 +1,13 @@
 package org.upstarters.enrollment.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,9 +25,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.upstarters.enrollment.dto.CourseDTO;
 import org.upstarters.enrollment.dto.FullCourseDTO;
 import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.course.CourseCatalogCache;
 import org.upstarters.enrollment.service.course.CourseFeignClient;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class CourseAPIServiceTest {
@@ -27,6 +37,10 @@ class CourseAPIServiceTest {
     @Mock
     private CourseFeignClient courseFeignClient;
 
+    @Spy
+    private CourseCatalogCache courseCatalogCache =
+            new CourseCatalogCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 1000, new SimpleMeterRegistry());
+
     @InjectMocks
     private CourseAPIService courseAPIService;
 
@@ -59,10 +73,12 @@ class CourseAPIServiceTest {
         when(courseFeignClient.getCourseByTitle(courseName))
                 .thenThrow(FeignException.NotFound.class);
 
-        RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> courseAPIService.getCourseIdByName(courseName));
+        Long result1 = courseAPIService.getCourseIdByName(courseName);
+        Long result2 = courseAPIService.getCourseIdByName(courseName);
 
-        assertTrue(exception.getMessage().contains("Failed to get course id"));
+        assertNull(result1);
+        assertNull(result2);
+        assertTrue(courseCatalogCache.isUnknownTitle(courseName));
         verify(courseFeignClient, times(1)).getCourseByTitle(courseName);
     }
 
@@ -214,7 +230,7 @@ class CourseAPIServiceTest {
 
         assertEquals(result1, result2);
         assertEquals(1L, result1);
-        verify(courseFeignClient, times(2)).getCourseByTitle(courseName);
+        verify(courseFeignClient, times(1)).getCourseByTitle(courseName);
     }
 
     @Test
@@ -228,7 +244,7 @@ class CourseAPIServiceTest {
 
         assertEquals(result1, result2);
         assertEquals("Math 101", result1);
-        verify(courseFeignClient, times(2)).getCourseById(courseId);
+        verify(courseFeignClient, times(1)).getCourseById(courseId);
     }
 
     @Test
@@ -290,4 +306,153 @@ class CourseAPIServiceTest {
         assertEquals(longCourseName, result);
         verify(courseFeignClient, times(1)).getCourseById(courseId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetCourseNamesByIds_Success() {
+        List<Long> courseIds = List.of(1L, 2L);
+
+        when(courseFeignClient.getCourseTitlesByIds(courseIds))
+                .thenReturn(Map.of(1L, "Math 101", 2L, "Physics 101"));
+
+        Map<Long, String> result = courseAPIService.getCourseNamesByIds(courseIds);
+
+        assertEquals(2, result.size());
+        assertEquals("Math 101", result.get(1L));
+        assertEquals("Physics 101", result.get(2L));
+        verify(courseFeignClient, times(1)).getCourseTitlesByIds(courseIds);
+    }
+
+    @Test
+    void testGetCourseNamesByIds_EmptyIds() {
+        Map<Long, String> result = courseAPIService.getCourseNamesByIds(List.of());
+
+        assertTrue(result.isEmpty());
+        verify(courseFeignClient, never()).getCourseTitlesByIds(List.of());
+    }
+
+    @Test
+    void testGetCourseNamesByIds_NullResponse() {
+        List<Long> courseIds = List.of(1L);
+
+        when(courseFeignClient.getCourseTitlesByIds(courseIds)).thenReturn(null);
+
+        Map<Long, String> result = courseAPIService.getCourseNamesByIds(courseIds);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testGetCourseNamesByIds_FeignException() {
+        List<Long> courseIds = List.of(1L, 2L);
+
+        when(courseFeignClient.getCourseTitlesByIds(courseIds))
+                .thenThrow(new RuntimeException("Service unavailable"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> courseAPIService.getCourseNamesByIds(courseIds));
+
+        assertTrue(exception.getMessage().contains("Failed to get course names"));
+    }
+
+    @Test
+    void testGetCourseNamesByIds_OnlyFetchesMissingIds() {
+        courseCatalogCache.put(1L, "Math 101");
+
+        when(courseFeignClient.getCourseTitlesByIds(List.of(2L)))
+                .thenReturn(Map.of(2L, "Physics 101"));
+
+        Map<Long, String> result = courseAPIService.getCourseNamesByIds(List.of(1L, 2L));
+
+        assertEquals(2, result.size());
+        assertEquals("Math 101", result.get(1L));
+        assertEquals("Physics 101", result.get(2L));
+        verify(courseFeignClient, times(1)).getCourseTitlesByIds(List.of(2L));
+    }
+
+    @Test
+    void testGetCourseNamesByIds_AllCached() {
+        courseCatalogCache.put(1L, "Math 101");
+        courseCatalogCache.put(2L, "Physics 101");
+
+        Map<Long, String> result = courseAPIService.getCourseNamesByIds(List.of(1L, 2L));
+
+        assertEquals(2, result.size());
+        verify(courseFeignClient, never()).getCourseTitlesByIds(anyCollection());
+    }
+
+    @Test
+    void testGetCourseIdByName_UsesCacheFilledByIdLookup() {
+        when(courseFeignClient.getCourseById(1L)).thenReturn(testCourseDTO);
+
+        courseAPIService.getCourseNameById(1L);
+        Long result = courseAPIService.getCourseIdByName("Math 101");
+
+        assertEquals(1L, result);
+        verify(courseFeignClient, never()).getCourseByTitle("Math 101");
+    }
+
+    @Test
+    void testGetCourseIdByName_AfterEvict() {
+        when(courseFeignClient.getCourseByTitle("Math 101")).thenReturn(testFullCourseDTO);
+
+        courseAPIService.getCourseIdByName("Math 101");
+        courseCatalogCache.evict("Math 101");
+        courseAPIService.getCourseIdByName("Math 101");
+
+        verify(courseFeignClient, times(2)).getCourseByTitle("Math 101");
+    }
+
+    @Test
+    void testGetCourseIdsByNames_FetchesOnlyUnknownNamesOnce() {
+        courseCatalogCache.put(1L, "Math 101");
+
+        when(courseFeignClient.getCourseIdsByTitles(List.of("Physics 101", "Chemistry 101")))
+                .thenReturn(Map.of("Physics 101", 2L));
+
+        Map<String, Long> result = courseAPIService.getCourseIdsByNames(
+                List.of("Math 101", "Physics 101", "Chemistry 101", "Physics 101"));
+
+        assertEquals(Map.of("Math 101", 1L, "Physics 101", 2L), result);
+        assertTrue(courseCatalogCache.isUnknownTitle("Chemistry 101"));
+        assertEquals(2L, courseCatalogCache.getCourseId("Physics 101"));
+        verify(courseFeignClient, times(1)).getCourseIdsByTitles(List.of("Physics 101", "Chemistry 101"));
+    }
+
+    @Test
+    void testGetCourseIdsByNames_SkipsKnownUnknownNames() {
+        courseCatalogCache.markUnknownTitle("Chemistry 101");
+
+        Map<String, Long> result = courseAPIService.getCourseIdsByNames(List.of("Chemistry 101"));
+
+        assertTrue(result.isEmpty());
+        verify(courseFeignClient, never()).getCourseIdsByTitles(anyCollection());
+    }
+
+    @Test
+    void testGetCourseIdsByNames_FeignException() {
+        when(courseFeignClient.getCourseIdsByTitles(List.of("Math 101")))
+                .thenThrow(new RuntimeException("Service unavailable"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> courseAPIService.getCourseIdsByNames(List.of("Math 101")));
+
+        assertTrue(exception.getMessage().contains("Failed to get course ids"));
+    }
+
+    @Test
+    void testRefreshCourseNamesByIds_BypassesCache() {
+        courseCatalogCache.put(1L, "Old Math");
+        when(courseFeignClient.getCourseTitlesByIds(List.of(1L))).thenReturn(Map.of(1L, "Math 101"));
+
+        Map<Long, String> result = courseAPIService.refreshCourseNamesByIds(List.of(1L, 1L));
+
+        assertEquals(Map.of(1L, "Math 101"), result);
+        assertEquals("Math 101", courseCatalogCache.getCourseTitle(1L));
+    }
+
+    @Test
+    void testRefreshCourseNamesByIds_Empty() {
+        assertTrue(courseAPIService.refreshCourseNamesByIds(List.of()).isEmpty());
+        verify(courseFeignClient, never()).getCourseTitlesByIds(anyCollection());
+    }
+}
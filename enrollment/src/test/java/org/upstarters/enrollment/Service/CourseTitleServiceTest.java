@@ -0,0 +1,123 @@
+package org.upstarters.enrollment.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.upstarters.enrollment.dto.CourseTitleReconciliationDTO;
+import org.upstarters.enrollment.repository.EnrollmentCourseTitle;
+import org.upstarters.enrollment.repository.EnrollmentRepository;
+import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.course.CourseCatalogCache;
+import org.upstarters.enrollment.service.coursetitle.CourseTitleService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTitleServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseAPIService courseAPIService;
+
+    @Spy
+    private CourseCatalogCache courseCatalogCache =
+            new CourseCatalogCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 1000, new SimpleMeterRegistry());
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private CourseTitleService courseTitleService;
+
+    @Test
+    void testRenameCourse_UpdatesEnrollmentsAndCache() {
+        courseCatalogCache.put(1L, "Math 101");
+        when(enrollmentRepository.updateCourseTitle(1L, "Calculus I")).thenReturn(3);
+
+        int updated = courseTitleService.renameCourse(1L, "Calculus I");
+
+        assertEquals(3, updated);
+        assertEquals("Calculus I", courseCatalogCache.getCourseTitle(1L));
+        assertEquals(1L, courseCatalogCache.getCourseId("Calculus I"));
+        assertNull(courseCatalogCache.getCourseId("Math 101"));
+    }
+
+    @Test
+    void testRenameCourse_MissingTitle() {
+        assertThrows(IllegalArgumentException.class, () -> courseTitleService.renameCourse(1L, " "));
+
+        verify(enrollmentRepository, never()).updateCourseTitle(anyLong(), anyString());
+    }
+
+    @Test
+    void testReconcile_RewritesDriftedTitlesOnly() {
+        EnrollmentCourseTitle upToDate = courseTitle(1L, "Math 101");
+        EnrollmentCourseTitle renamed = courseTitle(2L, "Physics");
+        EnrollmentCourseTitle legacy = courseTitle(3L, null);
+        EnrollmentCourseTitle deleted = courseTitle(4L, "History 101");
+
+        when(enrollmentRepository.findDistinctCourseTitles()).thenReturn(List.of(upToDate, renamed, legacy, deleted));
+        when(courseAPIService.refreshCourseNamesByIds(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of(1L, "Math 101", 2L, "Physics 101", 3L, "Chemistry 101"));
+        when(enrollmentRepository.updateCourseTitle(2L, "Physics 101")).thenReturn(5);
+        when(enrollmentRepository.updateCourseTitle(3L, "Chemistry 101")).thenReturn(2);
+        when(enrollmentRepository.markCourseRemoved(4L)).thenReturn(4);
+        courseCatalogCache.put(4L, "History 101");
+
+        CourseTitleReconciliationDTO result = courseTitleService.reconcile();
+
+        assertEquals(4, result.getCheckedCourses());
+        assertEquals(11, result.getUpdatedEnrollments());
+        assertEquals(1, result.getMissingCourses());
+        verify(enrollmentRepository, never()).updateCourseTitle(1L, "Math 101");
+        verify(enrollmentRepository, never()).updateCourseTitle(eq(4L), anyString());
+        assertNull(courseCatalogCache.getCourseId("History 101"));
+    }
+
+    @Test
+    void testRemoveCourse_MarksEnrollmentsAndEvictsCache() {
+        courseCatalogCache.put(1L, "Math 101");
+        when(enrollmentRepository.markCourseRemoved(1L)).thenReturn(3);
+
+        int updated = courseTitleService.removeCourse(1L);
+
+        assertEquals(3, updated);
+        assertNull(courseCatalogCache.getCourseId("Math 101"));
+        assertNull(courseCatalogCache.getCourseTitle(1L));
+    }
+
+    @Test
+    void testRemoveCourse_MissingCourse() {
+        assertThrows(IllegalArgumentException.class, () -> courseTitleService.removeCourse(null));
+
+        verify(enrollmentRepository, never()).markCourseRemoved(anyLong());
+    }
+
+    private static EnrollmentCourseTitle courseTitle(Long courseId, String title) {
+        EnrollmentCourseTitle courseTitle = mock(EnrollmentCourseTitle.class);
+        when(courseTitle.getCourseId()).thenReturn(courseId);
+        when(courseTitle.getCourseTitle()).thenReturn(title);
+        return courseTitle;
+    }
+}
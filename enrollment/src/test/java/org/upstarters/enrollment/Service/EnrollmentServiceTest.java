@@ -1,40 +1,66 @@
 package org.upstarters.enrollment.Service;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.upstarters.enrollment.dto.EnrollmentBulkResponseDTO;
 import org.upstarters.enrollment.dto.EnrollmentDTO;
+import org.upstarters.enrollment.dto.EnrollmentPageDTO;
+import org.upstarters.enrollment.dto.EnrollmentRequestDTO;
 import org.upstarters.enrollment.dto.EnrollmentUpdateDTO;
 import org.upstarters.enrollment.dto.StudentDTO;
 import org.upstarters.enrollment.entity.Enrollment;
 import org.upstarters.enrollment.mapper.EnrollmentMapper;
+import org.upstarters.enrollment.repository.EnrollmentKey;
 import org.upstarters.enrollment.repository.EnrollmentRepository;
+import org.upstarters.enrollment.repository.EnrollmentView;
+import org.upstarters.enrollment.service.concurrent.ParallelCalls;
 import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.statistics.GradeStatisticsService;
 import org.upstarters.enrollment.service.enrollment.EnrollmentService;
 import org.upstarters.enrollment.service.student.StudentAPIService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +78,18 @@ class EnrollmentServiceTest {
     @Mock
     private EnrollmentMapper enrollmentMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ParallelCalls parallelCalls = new ParallelCalls(Executors.newVirtualThreadPerTaskExecutor());
+
+    @Mock
+    private GradeStatisticsService gradeStatisticsService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private EnrollmentService enrollmentService;
 
@@ -81,15 +119,16 @@ class EnrollmentServiceTest {
 
         when(studentAPIService.getStudentByEmail(studentEmail)).thenReturn(testStudent);
         when(courseAPIService.getCourseIdByName(courseName)).thenReturn(courseId);
-        when(enrollmentRepository.existsByStudentEmailAndCourseId(studentEmail, courseId)).thenReturn(false);
-        when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(testEnrollment);
+        when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenReturn(testEnrollment);
 
         enrollmentService.enrollStudentInCourse(studentEmail, courseName);
 
         verify(studentAPIService, times(1)).getStudentByEmail(studentEmail);
         verify(courseAPIService, times(1)).getCourseIdByName(courseName);
-        verify(enrollmentRepository, times(1)).existsByStudentEmailAndCourseId(studentEmail, courseId);
-        verify(enrollmentRepository, times(1)).save(any(Enrollment.class));
+        verify(enrollmentRepository, never()).existsByStudentEmailAndCourseId(anyString(), anyLong());
+        verify(enrollmentRepository, times(1)).saveAndFlush(any(Enrollment.class));
+        verify(enrollmentRepository).saveAndFlush(argThat((Enrollment e) -> courseName.equals(e.getCourseTitle())));
+        verify(gradeStatisticsService, times(1)).recordAdded(anyList());
     }
 
     @Test
@@ -103,8 +142,22 @@ class EnrollmentServiceTest {
             () -> enrollmentService.enrollStudentInCourse(studentEmail, courseName));
 
         assertEquals("Student not found with email: " + studentEmail, exception.getMessage());
-        verify(courseAPIService, never()).getCourseIdByName(anyString());
-        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
+    }
+
+    @Test
+    void testEnrollStudentInCourse_StudentServiceFails() {
+        String studentEmail = "john.doe@example.com";
+        String courseName = "Math 101";
+
+        when(studentAPIService.getStudentByEmail(studentEmail))
+                .thenThrow(new RuntimeException("Failed to get student by email: " + studentEmail));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> enrollmentService.enrollStudentInCourse(studentEmail, courseName));
+
+        assertEquals("Failed to get student by email: " + studentEmail, exception.getMessage());
+        verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
     }
 
     @Test
@@ -119,7 +172,7 @@ class EnrollmentServiceTest {
             () -> enrollmentService.enrollStudentInCourse(studentEmail, courseName));
 
         assertEquals("Course not found with name: " + courseName, exception.getMessage());
-        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
     }
 
     @Test
@@ -130,13 +183,117 @@ class EnrollmentServiceTest {
 
         when(studentAPIService.getStudentByEmail(studentEmail)).thenReturn(testStudent);
         when(courseAPIService.getCourseIdByName(courseName)).thenReturn(courseId);
-        when(enrollmentRepository.existsByStudentEmailAndCourseId(studentEmail, courseId)).thenReturn(true);
+        when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_enrollments_student_course"));
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, 
             () -> enrollmentService.enrollStudentInCourse(studentEmail, courseName));
 
         assertEquals("Student is already enrolled in the course", exception.getMessage());
-        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verify(enrollmentRepository, times(1)).saveAndFlush(any(Enrollment.class));
+    }
+
+    @Test
+    void testBulkEnroll_ReportsEveryRow() {
+        String otherEmail = "jane.doe@example.com";
+        List<EnrollmentRequestDTO> requests = List.of(
+                new EnrollmentRequestDTO("john.doe@example.com", "Math 101"),
+                new EnrollmentRequestDTO("john.doe@example.com", "Physics 101"),
+                new EnrollmentRequestDTO("john.doe@example.com", "Math 101"),
+                new EnrollmentRequestDTO("unknown@example.com", "Math 101"),
+                new EnrollmentRequestDTO(otherEmail, "Unknown Course"),
+                new EnrollmentRequestDTO(otherEmail, "Math 101"),
+                new EnrollmentRequestDTO("", "Math 101"));
+        EnrollmentKey existing = new EnrollmentKey() {
+            public String getStudentEmail() { return otherEmail; }
+            public Long getCourseId() { return 1L; }
+        };
+
+        when(studentAPIService.getStudentsByEmails(anyCollection()))
+                .thenReturn(Map.of("john.doe@example.com", testStudent, otherEmail, testStudent));
+        when(courseAPIService.getCourseIdsByNames(any()))
+                .thenReturn(Map.of("Math 101", 1L, "Physics 101", 2L));
+        when(enrollmentRepository.findAllByStudentEmailIn(anyList())).thenReturn(List.of(existing));
+
+        EnrollmentBulkResponseDTO result = enrollmentService.bulkEnroll(requests);
+
+        assertEquals(7, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertEquals(5, result.getFailed());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertTrue(result.getResults().get(1).isSuccess());
+        assertEquals("Student is already enrolled in the course", result.getResults().get(2).getMessage());
+        assertEquals("Student not found with email: unknown@example.com", result.getResults().get(3).getMessage());
+        assertEquals("Course not found with name: Unknown Course", result.getResults().get(4).getMessage());
+        assertEquals("Student is already enrolled in the course", result.getResults().get(5).getMessage());
+        assertEquals("Student and course must be provided", result.getResults().get(6).getMessage());
+        assertEquals(7, result.getResults().get(6).getRow());
+        verify(studentAPIService, times(1)).getStudentsByEmails(
+                argThat((Collection<String> emails) -> emails.size() == 3));
+        verify(courseAPIService, times(1)).getCourseIdsByNames(any());
+        verify(enrollmentRepository, times(1)).saveAll(argThat((List<Enrollment> list) -> list.size() == 2));
+    }
+
+    @Test
+    void testBulkEnroll_EmptyInput() {
+        EnrollmentBulkResponseDTO result = enrollmentService.bulkEnroll(List.of());
+
+        assertEquals(0, result.getTotal());
+        verify(enrollmentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testBulkEnroll_TooManyRows() {
+        List<EnrollmentRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i <= 10_000; i++) {
+            requests.add(new EnrollmentRequestDTO("student" + i + "@example.com", "Math 101"));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> enrollmentService.bulkEnroll(requests));
+        verify(studentAPIService, never()).getStudentsByEmails(anyCollection());
+    }
+
+    @Test
+    void testBulkEnroll_ConcurrentDuplicate() {
+        List<EnrollmentRequestDTO> requests = List.of(new EnrollmentRequestDTO("john.doe@example.com", "Math 101"));
+
+        when(studentAPIService.getStudentsByEmails(anyCollection()))
+                .thenReturn(Map.of("john.doe@example.com", testStudent));
+        when(courseAPIService.getCourseIdsByNames(any())).thenReturn(Map.of("Math 101", 1L));
+        when(enrollmentRepository.findAllByStudentEmailIn(anyList())).thenReturn(List.of());
+        when(enrollmentRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_enrollments_student_course"));
+
+        assertThrows(IllegalStateException.class, () -> enrollmentService.bulkEnroll(requests));
+    }
+
+    @Test
+    void testBulkEnrollFromCsv_ParsesRows() {
+        String csv = "studentEmail,courseName\n"
+                + "john.doe@example.com,Math 101\n"
+                + "\n"
+                + "john.doe@example.com,\"Algebra, Part 2\"\n";
+
+        when(studentAPIService.getStudentsByEmails(anyCollection()))
+                .thenReturn(Map.of("john.doe@example.com", testStudent));
+        when(courseAPIService.getCourseIdsByNames(any()))
+                .thenReturn(Map.of("Math 101", 1L, "Algebra, Part 2", 3L));
+        when(enrollmentRepository.findAllByStudentEmailIn(anyList())).thenReturn(List.of());
+
+        EnrollmentBulkResponseDTO result = enrollmentService.bulkEnrollFromCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertEquals("Algebra, Part 2", result.getResults().get(1).getCourseName());
+    }
+
+    @Test
+    void testBulkEnrollFromCsv_MalformedLine() {
+        String csv = "john.doe@example.com Math 101\n";
+
+        assertThrows(IllegalArgumentException.class, () -> enrollmentService.bulkEnrollFromCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
     }
 
     @Test
@@ -164,6 +321,94 @@ class EnrollmentServiceTest {
         verify(enrollmentRepository, times(1)).findAll();
     }
 
+    @Test
+    void testGetEnrollmentsPage_FirstPageWithMore() {
+        Enrollment enrollment1 = new Enrollment("student1@example.com", 1L, LocalDate.now(), 8.5);
+        enrollment1.setId(1L);
+        Enrollment enrollment2 = new Enrollment("student2@example.com", 2L, LocalDate.now(), 9.0);
+        enrollment2.setId(2L);
+        EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-12", 8.5);
+
+        when(enrollmentRepository.findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(enrollment1, enrollment2));
+        when(enrollmentMapper.toDtoList(List.of(enrollment1))).thenReturn(List.of(dto1));
+
+        EnrollmentPageDTO result = enrollmentService.getEnrollmentsPage(null, 1);
+
+        assertEquals(List.of(dto1), result.getItems());
+        assertNotNull(result.getNext());
+        assertEquals("1", new String(Base64.getUrlDecoder().decode(result.getNext())));
+    }
+
+    @Test
+    void testGetEnrollmentsPage_LastPage() {
+        String next = Base64.getUrlEncoder().withoutPadding().encodeToString("1".getBytes());
+        Enrollment enrollment2 = new Enrollment("student2@example.com", 2L, LocalDate.now(), 9.0);
+        enrollment2.setId(2L);
+        EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", "Physics 101", "2026-01-12", 9.0);
+
+        when(enrollmentRepository.findAllByIdGreaterThanOrderByIdAsc(1L, Limit.of(11)))
+                .thenReturn(List.of(enrollment2));
+        when(enrollmentMapper.toDtoList(List.of(enrollment2))).thenReturn(List.of(dto2));
+
+        EnrollmentPageDTO result = enrollmentService.getEnrollmentsPage(next, 10);
+
+        assertEquals(List.of(dto2), result.getItems());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void testGetEnrollmentsPage_InvalidToken() {
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.getEnrollmentsPage("not a token", 10));
+
+        verify(enrollmentRepository, never()).findAllByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void testGetEnrollmentsPage_LimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.getEnrollmentsPage(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.getEnrollmentsPage(null, 501));
+    }
+
+    @Test
+    void testStreamAllEnrollments_Chunks() {
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (long i = 1; i <= 501; i++) {
+            Enrollment enrollment = new Enrollment("student" + i + "@example.com", 1L, LocalDate.now(), 7.0);
+            enrollment.setId(i);
+            enrollments.add(enrollment);
+        }
+
+        when(enrollmentRepository.streamAllOrderedById()).thenReturn(enrollments.stream());
+        when(enrollmentMapper.toDtoList(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Enrollment> chunk = invocation.getArgument(0);
+                    return chunk.stream()
+                            .map(e -> new EnrollmentDTO(e.getStudentEmail(), "Math 101", "2026-01-12", e.getGrade()))
+                            .toList();
+                });
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        enrollmentService.streamAllEnrollments(chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(List.of(500, 1), chunkSizes);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void testStreamAllEnrollments_Empty() {
+        when(enrollmentRepository.streamAllOrderedById()).thenReturn(Stream.empty());
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        enrollmentService.streamAllEnrollments(chunk -> chunkSizes.add(chunk.size()));
+
+        assertTrue(chunkSizes.isEmpty());
+        verify(enrollmentMapper, never()).toDtoList(anyList());
+    }
+
     @Test
     void testGetEnrollment_Success() {
         Long enrollmentId = 1L;
@@ -199,13 +444,13 @@ class EnrollmentServiceTest {
         updateDTO.setCourseName("Physics 101");
         updateDTO.setGrade(9.5);
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(testEnrollment));
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.of(testEnrollment));
         when(courseAPIService.getCourseIdByName("Physics 101")).thenReturn(2L);
         when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(testEnrollment);
 
         enrollmentService.updateEnrollment(enrollmentId, updateDTO);
 
-        verify(enrollmentRepository, times(1)).findById(enrollmentId);
+        verify(enrollmentRepository, times(1)).findByIdForUpdate(enrollmentId);
         verify(courseAPIService, times(1)).getCourseIdByName("Physics 101");
         verify(enrollmentRepository, times(1)).save(testEnrollment);
         assertEquals(2L, testEnrollment.getCourseId());
@@ -218,42 +463,76 @@ class EnrollmentServiceTest {
         EnrollmentUpdateDTO updateDTO = new EnrollmentUpdateDTO();
         updateDTO.setGrade(9.5);
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(testEnrollment));
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.of(testEnrollment));
         when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(testEnrollment);
 
         enrollmentService.updateEnrollment(enrollmentId, updateDTO);
 
-        verify(enrollmentRepository, times(1)).findById(enrollmentId);
+        verify(enrollmentRepository, times(1)).findByIdForUpdate(enrollmentId);
         verify(courseAPIService, never()).getCourseIdByName(anyString());
         verify(enrollmentRepository, times(1)).save(testEnrollment);
+        verify(gradeStatisticsService, times(1)).recordRemoved(1L, 8.5);
+        verify(gradeStatisticsService, times(1)).recordAdded(List.of(testEnrollment));
         assertEquals(9.5, testEnrollment.getGrade());
     }
 
+    @Test
+    void testUpdateEnrollment_SameGradeLeavesStatistics() {
+        Long enrollmentId = 1L;
+        EnrollmentUpdateDTO updateDTO = new EnrollmentUpdateDTO();
+        updateDTO.setGrade(8.5);
+
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.of(testEnrollment));
+        when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(testEnrollment);
+
+        enrollmentService.updateEnrollment(enrollmentId, updateDTO);
+
+        verify(gradeStatisticsService, never()).recordRemoved(any(), any());
+        verify(gradeStatisticsService, never()).recordAdded(anyList());
+    }
+
     @Test
     void testUpdateEnrollment_OnlyCourse() {
         Long enrollmentId = 1L;
         EnrollmentUpdateDTO updateDTO = new EnrollmentUpdateDTO();
         updateDTO.setCourseName("Physics 101");
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(testEnrollment));
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.of(testEnrollment));
         when(courseAPIService.getCourseIdByName("Physics 101")).thenReturn(2L);
         when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(testEnrollment);
 
         enrollmentService.updateEnrollment(enrollmentId, updateDTO);
 
-        verify(enrollmentRepository, times(1)).findById(enrollmentId);
+        verify(enrollmentRepository, times(1)).findByIdForUpdate(enrollmentId);
         verify(courseAPIService, times(1)).getCourseIdByName("Physics 101");
         verify(enrollmentRepository, times(1)).save(testEnrollment);
         assertEquals(2L, testEnrollment.getCourseId());
     }
 
+    @Test
+    void testUpdateEnrollment_AlreadyEnrolledInNewCourse() {
+        Long enrollmentId = 1L;
+        EnrollmentUpdateDTO updateDTO = new EnrollmentUpdateDTO();
+        updateDTO.setCourseName("Physics 101");
+
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.of(testEnrollment));
+        when(courseAPIService.getCourseIdByName("Physics 101")).thenReturn(2L);
+        when(enrollmentRepository.save(any(Enrollment.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_enrollments_student_course"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> enrollmentService.updateEnrollment(enrollmentId, updateDTO));
+
+        assertEquals("Student is already enrolled in the course", exception.getMessage());
+    }
+
     @Test
     void testUpdateEnrollment_EnrollmentNotFound() {
         Long enrollmentId = 999L;
         EnrollmentUpdateDTO updateDTO = new EnrollmentUpdateDTO();
         updateDTO.setGrade(9.5);
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.empty());
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, 
             () -> enrollmentService.updateEnrollment(enrollmentId, updateDTO));
@@ -268,13 +547,13 @@ class EnrollmentServiceTest {
         EnrollmentUpdateDTO updateDTO = new EnrollmentUpdateDTO();
         updateDTO.setCourseName("NonExistent Course");
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(testEnrollment));
         when(courseAPIService.getCourseIdByName("NonExistent Course")).thenReturn(null);
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, 
             () -> enrollmentService.updateEnrollment(enrollmentId, updateDTO));
 
         assertEquals("Course not found with name: NonExistent Course", exception.getMessage());
+        verify(enrollmentRepository, never()).findByIdForUpdate(anyLong());
         verify(enrollmentRepository, never()).save(any(Enrollment.class));
     }
 
@@ -282,26 +561,28 @@ class EnrollmentServiceTest {
     void testDeleteEnrollment_Success() {
         Long enrollmentId = 1L;
 
-        when(enrollmentRepository.existsById(enrollmentId)).thenReturn(true);
-        doNothing().when(enrollmentRepository).deleteById(enrollmentId);
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.of(testEnrollment));
+        doNothing().when(enrollmentRepository).delete(testEnrollment);
 
         enrollmentService.deleteEnrollment(enrollmentId);
 
-        verify(enrollmentRepository, times(1)).existsById(enrollmentId);
-        verify(enrollmentRepository, times(1)).deleteById(enrollmentId);
+        verify(enrollmentRepository, times(1)).findByIdForUpdate(enrollmentId);
+        verify(enrollmentRepository, times(1)).delete(testEnrollment);
+        verify(gradeStatisticsService, times(1)).recordRemoved(1L, 8.5);
     }
 
     @Test
     void testDeleteEnrollment_NotFound() {
         Long enrollmentId = 999L;
 
-        when(enrollmentRepository.existsById(enrollmentId)).thenReturn(false);
+        when(enrollmentRepository.findByIdForUpdate(enrollmentId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, 
             () -> enrollmentService.deleteEnrollment(enrollmentId));
 
         assertEquals("Enrollment not found with id: " + enrollmentId, exception.getMessage());
-        verify(enrollmentRepository, never()).deleteById(anyLong());
+        verify(enrollmentRepository, never()).delete(any(Enrollment.class));
+        verify(gradeStatisticsService, never()).recordRemoved(any(), any());
     }
 
     @Test
@@ -317,8 +598,7 @@ class EnrollmentServiceTest {
 
         when(courseAPIService.getCourseIdByName(courseName)).thenReturn(courseId);
         when(enrollmentRepository.findAllByCourseId(courseId)).thenReturn(Optional.of(enrollments));
-        when(enrollmentMapper.toDto(enrollment1)).thenReturn(dto1);
-        when(enrollmentMapper.toDto(enrollment2)).thenReturn(dto2);
+        when(enrollmentMapper.toDtoList(enrollments)).thenReturn(Arrays.asList(dto1, dto2));
 
         List<EnrollmentDTO> result = enrollmentService.studentsFilteredByCourse(courseName);
 
@@ -365,8 +645,7 @@ class EnrollmentServiceTest {
         EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", "Physics 101", "2026-01-12", 3.5);
 
         when(enrollmentRepository.findAllByGradeLessThanEqual(5.0)).thenReturn(Optional.of(enrollments));
-        when(enrollmentMapper.toDto(enrollment1)).thenReturn(dto1);
-        when(enrollmentMapper.toDto(enrollment2)).thenReturn(dto2);
+        when(enrollmentMapper.toDtoList(enrollments)).thenReturn(Arrays.asList(dto1, dto2));
 
         List<EnrollmentDTO> result = enrollmentService.failingStudents();
 
@@ -385,6 +664,94 @@ class EnrollmentServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testFailingStudents_WithThresholdAndCourse() {
+        Enrollment enrollment = new Enrollment("student1@example.com", 1L, LocalDate.now(), 5.5);
+        EnrollmentDTO dto = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-12", 5.5);
+
+        when(courseAPIService.getCourseIdByName("Math 101")).thenReturn(1L);
+        when(enrollmentRepository.findAllByCourseIdAndGradeLessThanEqual(1L, 6.0)).thenReturn(Optional.of(List.of(enrollment)));
+        when(enrollmentMapper.toDtoList(List.of(enrollment))).thenReturn(List.of(dto));
+
+        List<EnrollmentDTO> result = enrollmentService.failingStudents(6.0, "Math 101");
+
+        assertEquals(List.of(dto), result);
+        verify(enrollmentRepository, never()).findAllByGradeLessThanEqual(anyDouble());
+    }
+
+    @Test
+    void testFailingStudents_CourseNotFound() {
+        when(courseAPIService.getCourseIdByName("Unknown")).thenReturn(null);
+
+        assertThrows(EntityNotFoundException.class, () -> enrollmentService.failingStudents(5.0, "Unknown"));
+    }
+
+    @Test
+    void testGetFailingStudentsPage_HasNext() {
+        EnrollmentView view1 = mock(EnrollmentView.class);
+        EnrollmentView view2 = mock(EnrollmentView.class);
+        EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", "Math 101", "2026-01-12", 4.0);
+
+        when(view1.getId()).thenReturn(7L);
+        when(enrollmentRepository.findAllByGradeLessThanEqualAndIdGreaterThanOrderByIdAsc(5.0, 0L, Limit.of(2)))
+                .thenReturn(List.of(view1, view2));
+        when(enrollmentMapper.viewsToDtoList(List.of(view1))).thenReturn(List.of(dto1));
+
+        EnrollmentPageDTO result = enrollmentService.getFailingStudentsPage(5.0, null, null, 1);
+
+        assertEquals(List.of(dto1), result.getItems());
+        assertEquals("7", new String(Base64.getUrlDecoder().decode(result.getNext())));
+        verify(courseAPIService, never()).getCourseIdByName(anyString());
+    }
+
+    @Test
+    void testGetFailingStudentsPage_CourseLastPage() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("7".getBytes());
+        EnrollmentView view = mock(EnrollmentView.class);
+        EnrollmentDTO dto = new EnrollmentDTO("student2@example.com", "Math 101", "2026-01-12", 3.0);
+
+        when(courseAPIService.getCourseIdByName("Math 101")).thenReturn(1L);
+        when(enrollmentRepository.findAllByCourseIdAndGradeLessThanEqualAndIdGreaterThanOrderByIdAsc(1L, 4.0, 7L, Limit.of(11)))
+                .thenReturn(List.of(view));
+        when(enrollmentMapper.viewsToDtoList(List.of(view))).thenReturn(List.of(dto));
+
+        EnrollmentPageDTO result = enrollmentService.getFailingStudentsPage(4.0, "Math 101", cursor, 10);
+
+        assertEquals(List.of(dto), result.getItems());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void testGetFailingStudentsPage_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.getFailingStudentsPage(5.0, null, "not a token", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.getFailingStudentsPage(5.0, null, null, 0));
+    }
+
+    @Test
+    void testStreamFailingStudents_Chunks() {
+        List<EnrollmentView> views = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            views.add(mock(EnrollmentView.class));
+        }
+
+        when(enrollmentRepository.streamAllByGradeLessThanEqualOrderByIdAsc(5.0)).thenReturn(views.stream());
+        when(enrollmentMapper.viewsToDtoList(anyList()))
+                .thenAnswer(invocation -> {
+                    List<EnrollmentView> chunk = invocation.getArgument(0);
+                    return chunk.stream()
+                            .map(view -> new EnrollmentDTO("student@example.com", "Math 101", "2026-01-12", 4.0))
+                            .toList();
+                });
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        enrollmentService.streamFailingStudents(5.0, null, chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(List.of(500, 1), chunkSizes);
+        verify(entityManager, never()).clear();
+    }
+
     @Test
     void testGetTop5InCourse_Success() {
         String courseName = "Math 101";
@@ -395,25 +762,19 @@ class EnrollmentServiceTest {
         Enrollment e3 = new Enrollment("student3@example.com", courseId, LocalDate.now(), 9.0);
         Enrollment e4 = new Enrollment("student4@example.com", courseId, LocalDate.now(), 8.5);
         Enrollment e5 = new Enrollment("student5@example.com", courseId, LocalDate.now(), 8.0);
-        Enrollment e6 = new Enrollment("student6@example.com", courseId, LocalDate.now(), 7.5);
 
-        List<Enrollment> enrollments = Arrays.asList(e1, e2, e3, e4, e5, e6);
+        List<Enrollment> enrollments = Arrays.asList(e1, e2, e3, e4, e5);
 
         EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", courseName, "2026-01-12", 10.0);
         EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", courseName, "2026-01-12", 9.5);
         EnrollmentDTO dto3 = new EnrollmentDTO("student3@example.com", courseName, "2026-01-12", 9.0);
         EnrollmentDTO dto4 = new EnrollmentDTO("student4@example.com", courseName, "2026-01-12", 8.5);
         EnrollmentDTO dto5 = new EnrollmentDTO("student5@example.com", courseName, "2026-01-12", 8.0);
-        EnrollmentDTO dto6 = new EnrollmentDTO("student6@example.com", courseName, "2026-01-12", 7.5);
 
         when(courseAPIService.getCourseIdByName(courseName)).thenReturn(courseId);
-        when(enrollmentRepository.findAllByCourseId(courseId)).thenReturn(Optional.of(enrollments));
-        when(enrollmentMapper.toDto(e1)).thenReturn(dto1);
-        when(enrollmentMapper.toDto(e2)).thenReturn(dto2);
-        when(enrollmentMapper.toDto(e3)).thenReturn(dto3);
-        when(enrollmentMapper.toDto(e4)).thenReturn(dto4);
-        when(enrollmentMapper.toDto(e5)).thenReturn(dto5);
-        when(enrollmentMapper.toDto(e6)).thenReturn(dto6);
+        when(enrollmentRepository.findAllByCourseIdOrderByGradeDescIdAsc(courseId, Limit.of(5))).thenReturn(enrollments);
+        when(enrollmentMapper.toDtoList(Arrays.asList(e1, e2, e3, e4, e5)))
+                .thenReturn(Arrays.asList(dto1, dto2, dto3, dto4, dto5));
 
         List<EnrollmentDTO> result = enrollmentService.getTop5InCourse(courseName);
 
@@ -421,7 +782,8 @@ class EnrollmentServiceTest {
         assertEquals(10.0, result.get(0).getGrade());
         assertEquals(8.0, result.get(4).getGrade());
         verify(courseAPIService, times(1)).getCourseIdByName(courseName);
-        verify(enrollmentRepository, times(1)).findAllByCourseId(courseId);
+        verify(enrollmentRepository, times(1)).findAllByCourseIdOrderByGradeDescIdAsc(courseId, Limit.of(5));
+        verify(enrollmentRepository, never()).findAllByCourseId(anyLong());
     }
 
     @Test
@@ -449,15 +811,39 @@ class EnrollmentServiceTest {
         EnrollmentDTO dto2 = new EnrollmentDTO("student2@example.com", courseName, "2026-01-12", 9.5);
 
         when(courseAPIService.getCourseIdByName(courseName)).thenReturn(courseId);
-        when(enrollmentRepository.findAllByCourseId(courseId)).thenReturn(Optional.of(enrollments));
-        when(enrollmentMapper.toDto(e1)).thenReturn(dto1);
-        when(enrollmentMapper.toDto(e2)).thenReturn(dto2);
+        when(enrollmentRepository.findAllByCourseIdOrderByGradeDescIdAsc(courseId, Limit.of(5))).thenReturn(enrollments);
+        when(enrollmentMapper.toDtoList(Arrays.asList(e1, e2))).thenReturn(Arrays.asList(dto1, dto2));
 
         List<EnrollmentDTO> result = enrollmentService.getTop5InCourse(courseName);
 
         assertEquals(2, result.size());
     }
 
+    @Test
+    void testGetTopInCourse_CustomN() {
+        String courseName = "Math 101";
+        Long courseId = 1L;
+
+        Enrollment e1 = new Enrollment("student1@example.com", courseId, LocalDate.now(), 10.0);
+        EnrollmentDTO dto1 = new EnrollmentDTO("student1@example.com", courseName, "2026-01-12", 10.0);
+
+        when(courseAPIService.getCourseIdByName(courseName)).thenReturn(courseId);
+        when(enrollmentRepository.findAllByCourseIdOrderByGradeDescIdAsc(courseId, Limit.of(1))).thenReturn(List.of(e1));
+        when(enrollmentMapper.toDtoList(List.of(e1))).thenReturn(List.of(dto1));
+
+        List<EnrollmentDTO> result = enrollmentService.getTopInCourse(courseName, 1);
+
+        assertEquals(List.of(dto1), result);
+    }
+
+    @Test
+    void testGetTopInCourse_InvalidN() {
+        assertThrows(IllegalArgumentException.class, () -> enrollmentService.getTopInCourse("Math 101", 0));
+        assertThrows(IllegalArgumentException.class, () -> enrollmentService.getTopInCourse("Math 101", 101));
+
+        verify(courseAPIService, never()).getCourseIdByName(anyString());
+    }
+
     @Test
     void testGetEnrollmentsByStudent_Success() {
         String studentEmail = "john.doe@example.com";
@@ -471,8 +857,7 @@ class EnrollmentServiceTest {
 
         when(studentAPIService.getStudentByEmail(studentEmail)).thenReturn(testStudent);
         when(enrollmentRepository.findAllByStudentEmail(studentEmail)).thenReturn(Optional.of(enrollments));
-        when(enrollmentMapper.toDto(enrollment1)).thenReturn(dto1);
-        when(enrollmentMapper.toDto(enrollment2)).thenReturn(dto2);
+        when(enrollmentMapper.toDtoList(enrollments)).thenReturn(Arrays.asList(dto1, dto2));
 
         List<EnrollmentDTO> result = enrollmentService.getEnrollmentsByStudent(studentEmail);
 
@@ -0,0 +1,139 @@
+package org.upstarters.enrollment.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.upstarters.enrollment.dto.CourseGradeStatsDTO;
+import org.upstarters.enrollment.entity.CourseGradeStats;
+import org.upstarters.enrollment.entity.Enrollment;
+import org.upstarters.enrollment.repository.CourseGradeStatsRepository;
+import org.upstarters.enrollment.service.course.CourseAPIService;
+import org.upstarters.enrollment.service.statistics.GradeStatisticsService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class GradeStatisticsServiceTest {
+
+    @Mock
+    private CourseGradeStatsRepository courseGradeStatsRepository;
+
+    @Mock
+    private CourseAPIService courseAPIService;
+
+    @InjectMocks
+    private GradeStatisticsService gradeStatisticsService;
+
+    @Test
+    void testRecordAdded_OneUpsertPerCourse() {
+        List<Enrollment> enrollments = List.of(
+                new Enrollment("student1@example.com", 1L, LocalDate.now(), 4.0),
+                new Enrollment("student2@example.com", 1L, LocalDate.now(), 9.0),
+                new Enrollment("student3@example.com", 2L, LocalDate.now(), 0.0));
+
+        gradeStatisticsService.recordAdded(enrollments);
+
+        verify(courseGradeStatsRepository, times(1)).addGrades(1L, 2, 13.0, 1, 4.0, 9.0);
+        verify(courseGradeStatsRepository, times(1)).addGrades(2L, 1, 0.0, 0, 0.0, 0.0);
+    }
+
+    @Test
+    void testRecordRemoved_RefreshesBounds() {
+        gradeStatisticsService.recordRemoved(1L, 9.0);
+
+        InOrder order = inOrder(courseGradeStatsRepository);
+        order.verify(courseGradeStatsRepository).removeGrades(1L, 1, 9.0, 1);
+        order.verify(courseGradeStatsRepository).refreshBounds(1L);
+        order.verify(courseGradeStatsRepository).deleteIfEmpty(1L);
+    }
+
+    @Test
+    void testRecordRemoved_NullCourse() {
+        gradeStatisticsService.recordRemoved(null, 9.0);
+
+        verify(courseGradeStatsRepository, never()).removeGrades(anyLong(), anyLong(), anyDouble(), anyLong());
+    }
+
+    @Test
+    void testGetCourseStatistics_Success() {
+        when(courseAPIService.getCourseIdByName("Math 101")).thenReturn(1L);
+        when(courseGradeStatsRepository.findById(1L))
+                .thenReturn(Optional.of(new CourseGradeStats(1L, 4, 28.0, 3, 4.0, 9.0)));
+        when(courseGradeStatsRepository.findMedianGrade(1L)).thenReturn(7.5);
+
+        CourseGradeStatsDTO result = gradeStatisticsService.getCourseStatistics("Math 101");
+
+        assertEquals("Math 101", result.getCourse());
+        assertEquals(4, result.getEnrollmentCount());
+        assertEquals(7.0, result.getMean());
+        assertEquals(4.0, result.getMin());
+        assertEquals(9.0, result.getMax());
+        assertEquals(7.5, result.getMedian());
+        assertEquals(0.75, result.getPassRate());
+    }
+
+    @Test
+    void testGetCourseStatistics_NoEnrollments() {
+        when(courseAPIService.getCourseIdByName("Math 101")).thenReturn(1L);
+        when(courseGradeStatsRepository.findById(1L)).thenReturn(Optional.empty());
+
+        CourseGradeStatsDTO result = gradeStatisticsService.getCourseStatistics("Math 101");
+
+        assertEquals(0, result.getEnrollmentCount());
+        assertNull(result.getMean());
+        assertNull(result.getPassRate());
+        verify(courseGradeStatsRepository, never()).findMedianGrade(anyLong());
+    }
+
+    @Test
+    void testGetCourseStatistics_CourseNotFound() {
+        when(courseAPIService.getCourseIdByName("Unknown")).thenReturn(null);
+
+        assertThrows(EntityNotFoundException.class, () -> gradeStatisticsService.getCourseStatistics("Unknown"));
+    }
+
+    @Test
+    void testGetAllCourseStatistics_ResolvesNamesInOneCall() {
+        when(courseGradeStatsRepository.findAll()).thenReturn(List.of(
+                new CourseGradeStats(2L, 1, 6.0, 1, 6.0, 6.0),
+                new CourseGradeStats(1L, 2, 10.0, 1, 4.0, 6.0)));
+        when(courseAPIService.getCourseNamesByIds(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, "Math 101", 2L, "Physics 101"));
+
+        List<CourseGradeStatsDTO> result = gradeStatisticsService.getAllCourseStatistics();
+
+        assertEquals(2, result.size());
+        assertEquals("Math 101", result.get(0).getCourse());
+        assertEquals(5.0, result.get(0).getMean());
+        assertEquals(0.5, result.get(0).getPassRate());
+        assertNull(result.get(0).getMedian());
+        assertEquals("Physics 101", result.get(1).getCourse());
+    }
+
+    @Test
+    void testRebuild() {
+        gradeStatisticsService.rebuild();
+
+        InOrder order = inOrder(courseGradeStatsRepository);
+        order.verify(courseGradeStatsRepository).deleteAllStats();
+        order.verify(courseGradeStatsRepository).rebuildFromEnrollments(GradeStatisticsService.PASSING_GRADE);
+    }
+}
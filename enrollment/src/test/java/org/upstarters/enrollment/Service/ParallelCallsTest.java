@@ -0,0 +1,85 @@
+package org.upstarters.enrollment.Service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.upstarters.enrollment.service.concurrent.ParallelCalls;
+import org.upstarters.enrollment.service.concurrent.ParallelCalls.Both;
+
+class ParallelCallsTest {
+
+    private ExecutorService executor;
+    private ParallelCalls parallelCalls;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        parallelCalls = new ParallelCalls(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBoth_ReturnsBothResults() {
+        Both<String, Long> result = parallelCalls.both(() -> "Math 101", () -> 1L);
+
+        assertEquals("Math 101", result.first());
+        assertEquals(1L, result.second());
+    }
+
+    @Test
+    void testBoth_RunsCallsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Both<Boolean, Boolean> result = parallelCalls.both(
+                () -> awaitOther(bothStarted),
+                () -> awaitOther(bothStarted));
+
+        assertTrue(result.first());
+        assertTrue(result.second());
+    }
+
+    @Test
+    void testBoth_FailureCancelsOtherCall() throws InterruptedException {
+        RuntimeException failure = new RuntimeException("Service unavailable");
+        CountDownLatch slowCallInterrupted = new CountDownLatch(1);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> parallelCalls.both(
+                () -> {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        slowCallInterrupted.countDown();
+                    }
+                    return null;
+                },
+                () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, exception);
+        assertTrue(slowCallInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -10,8 +10,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,8 +21,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.upstarters.enrollment.dto.StudentDTO;
 import org.upstarters.enrollment.service.student.StudentAPIService;
 import org.upstarters.enrollment.service.student.StudentFeignClient;
+import org.upstarters.enrollment.service.student.StudentProfileCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class StudentAPIServiceTest {
@@ -28,6 +36,10 @@ class StudentAPIServiceTest {
     @Mock
     private StudentFeignClient studentFeignClient;
 
+    @Spy
+    private StudentProfileCache studentProfileCache =
+            new StudentProfileCache(Duration.ofMinutes(5), Duration.ofSeconds(30), 1000, new SimpleMeterRegistry());
+
     @InjectMocks
     private StudentAPIService studentAPIService;
 
@@ -236,4 +248,109 @@ class StudentAPIServiceTest {
         assertEquals(email, result.getEmail());
         verify(studentFeignClient, times(1)).getStudentByEmail(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetStudentByEmail_SecondCallServedFromCache() {
+        String email = "john.doe@example.com";
+
+        when(studentFeignClient.getStudentByEmail(email)).thenReturn(testStudent);
+
+        studentAPIService.getStudentByEmail(email);
+        StudentDTO result = studentAPIService.getStudentByEmail(email);
+
+        assertEquals("John", result.getFirstName());
+        verify(studentFeignClient, times(1)).getStudentByEmail(email);
+        assertEquals(1L, studentProfileCache.stats().get("studentProfilesByEmail").get("hits"));
+    }
+
+    @Test
+    void testGetStudentByEmail_NotFoundIsCached() {
+        String email = "nonexistent@example.com";
+
+        when(studentFeignClient.getStudentByEmail(email))
+                .thenThrow(FeignException.NotFound.class);
+
+        assertNull(studentAPIService.getStudentByEmail(email));
+        assertNull(studentAPIService.getStudentByEmail(email));
+
+        verify(studentFeignClient, times(1)).getStudentByEmail(email);
+    }
+
+    @Test
+    void testGetStudentByEmail_ModifyingResultDoesNotChangeCache() {
+        String email = "john.doe@example.com";
+
+        when(studentFeignClient.getStudentByEmail(email)).thenReturn(testStudent);
+
+        studentAPIService.getStudentByEmail(email).setEmail("changed@example.com");
+
+        assertEquals(email, studentAPIService.getStudentByEmail(email).getEmail());
+    }
+
+    @Test
+    void testUpdateStudentInfo_EvictsOldAndNewEmail() {
+        String oldEmail = "john.doe@example.com";
+        String newEmail = "john@example.com";
+        StudentDTO updatedStudent = new StudentDTO("John", "Doe", newEmail, "Computer Science");
+
+        when(studentFeignClient.getStudentByEmail(oldEmail)).thenReturn(testStudent);
+        when(studentFeignClient.getStudentByEmail(newEmail))
+                .thenThrow(FeignException.NotFound.class)
+                .thenReturn(updatedStudent);
+        when(studentFeignClient.updateStudent(eq(oldEmail), any(StudentDTO.class))).thenReturn(updatedStudent);
+
+        studentAPIService.getStudentByEmail(oldEmail);
+        assertNull(studentAPIService.getStudentByEmail(newEmail));
+
+        studentAPIService.updateStudentInfo(oldEmail, updatedStudent);
+
+        assertEquals(newEmail, studentAPIService.getStudentByEmail(newEmail).getEmail());
+        studentAPIService.getStudentByEmail(oldEmail);
+        verify(studentFeignClient, times(2)).getStudentByEmail(oldEmail);
+        verify(studentFeignClient, times(2)).getStudentByEmail(newEmail);
+    }
+
+    @Test
+    void testUpdateStudentInfo_Failure_StillEvicts() {
+        String email = "john.doe@example.com";
+
+        when(studentFeignClient.getStudentByEmail(email)).thenReturn(testStudent);
+        when(studentFeignClient.updateStudent(eq(email), any(StudentDTO.class)))
+                .thenThrow(new RuntimeException("Service unavailable"));
+
+        studentAPIService.getStudentByEmail(email);
+        assertThrows(RuntimeException.class, () -> studentAPIService.updateStudentInfo(email, testStudent));
+        studentAPIService.getStudentByEmail(email);
+
+        verify(studentFeignClient, times(2)).getStudentByEmail(email);
+    }
+
+    @Test
+    void testGetStudentsByEmails_FetchesOnlyUncachedEmailsInOneCall() {
+        String cachedEmail = "john.doe@example.com";
+        StudentDTO jane = new StudentDTO("Jane", "Smith", "jane.smith@example.com", "Mathematics");
+
+        when(studentFeignClient.getStudentByEmail(cachedEmail)).thenReturn(testStudent);
+        when(studentFeignClient.getStudentsByEmails(List.of("jane.smith@example.com", "unknown@example.com")))
+                .thenReturn(List.of(jane));
+
+        studentAPIService.getStudentByEmail(cachedEmail);
+        Map<String, StudentDTO> result = studentAPIService.getStudentsByEmails(
+                List.of(cachedEmail, "jane.smith@example.com", "unknown@example.com", cachedEmail));
+
+        assertEquals(2, result.size());
+        assertEquals("Jane", result.get("jane.smith@example.com").getFirstName());
+        assertEquals("John", result.get(cachedEmail).getFirstName());
+        assertNull(studentAPIService.getStudentByEmail("unknown@example.com"));
+        assertEquals("Jane", studentAPIService.getStudentByEmail("jane.smith@example.com").getFirstName());
+        verify(studentFeignClient, times(1)).getStudentsByEmails(any());
+        verify(studentFeignClient, never()).getStudentByEmail("jane.smith@example.com");
+    }
+
+    @Test
+    void testGetStudentsByEmails_FeignException() {
+        when(studentFeignClient.getStudentsByEmails(any())).thenThrow(new RuntimeException("Service unavailable"));
+
+        assertThrows(RuntimeException.class, () -> studentAPIService.getStudentsByEmails(List.of("john.doe@example.com")));
+    }
+}
@@ -0,0 +1,35 @@
+package org.upstarters.student.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.upstarters.student.entity.Student;
+
+/**
+ * Moves the student id sequence past the highest existing id on startup.
+ * <p>
+ * Student ids used to come from an identity column. The sequence backing the pooled id
+ * generator does not know about the rows created that way, so the first block it hands
+ * out could collide with them. The sequence is never moved backwards.
+ *
+ * @author Opris Liviu Vlad
+ */
+@Component
+public class StudentSequenceInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    StudentSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.queryForObject(
+                "select setval('" + Student.ID_SEQUENCE + "', greatest("
+                        + "(select coalesce(max(id), 1) from students), "
+                        + "(select last_value from " + Student.ID_SEQUENCE + ")))",
+                Long.class);
+    }
+}
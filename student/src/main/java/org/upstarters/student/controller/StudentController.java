@@ -1,9 +1,14 @@
 package org.upstarters.student.controller;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +18,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.upstarters.student.dtos.ExternalCourseDTO;
 import org.upstarters.student.dtos.StudentDTO;
 import org.upstarters.student.services.IStudentService;
+import org.upstarters.student.services.StudentExportFormat;
 
 import jakarta.validation.Valid;
 
@@ -34,6 +42,17 @@ public class StudentController {
         return new ResponseEntity<>(createdStudent, HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @PostMapping("/createBatch")
+    public ResponseEntity<List<StudentDTO>> createStudents(@RequestBody List<StudentDTO> studentDTOs) {
+        try {
+            List<StudentDTO> createdStudents = studentService.addStudents(studentDTOs);
+            return new ResponseEntity<>(createdStudents, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
     @GetMapping("/getByEmail/{email}")
     public ResponseEntity<StudentDTO> fetchStudent(@Valid @PathVariable String email) {
@@ -41,6 +60,13 @@ public class StudentController {
         return new ResponseEntity<>(fetchedStudent, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    @PostMapping("/getByEmails")
+    public ResponseEntity<List<StudentDTO>> fetchStudentsByEmails(@RequestBody List<String> emails) {
+        List<StudentDTO> fetchedStudents = studentService.fetchStudentsByEmails(emails);
+        return new ResponseEntity<>(fetchedStudents, HttpStatus.OK);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/getStudents")
     public ResponseEntity<List<StudentDTO>> fetchStudent() {
@@ -48,6 +74,26 @@ public class StudentController {
         return new ResponseEntity<>(fetchedStudents, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(required = false) String major,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        StudentExportFormat exportFormat;
+        try {
+            exportFormat = StudentExportFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = output -> studentService.exportStudents(major, updatedSince, exportFormat, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
     @GetMapping("/countStudents")
     public ResponseEntity<Long> countStudents() {
@@ -55,6 +101,20 @@ public class StudentController {
         return new ResponseEntity<>(numberOfStudents, HttpStatus.FOUND);
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    @GetMapping("/countStudentsByMajor/{major}")
+    public ResponseEntity<Long> countStudentsByMajor(@Valid @PathVariable String major) {
+        Long numberOfStudents = studentService.countStudentsByMajor(major);
+        return new ResponseEntity<>(numberOfStudents, HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    @GetMapping("/countStudentsPerMajor")
+    public ResponseEntity<Map<String, Long>> countStudentsPerMajor() {
+        Map<String, Long> studentsPerMajor = studentService.countStudentsPerMajor();
+        return new ResponseEntity<>(studentsPerMajor, HttpStatus.OK);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/getStudentsByMajor/{major}")
     public ResponseEntity<List<StudentDTO>> fetchStudentByMajor(@Valid @PathVariable String major) {
@@ -1,13 +1,20 @@
 package org.upstarters.student.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
-@Table(name = "students")
+@Table(name = "students", indexes = @Index(name = "idx_students_updated_at", columnList = "updated_at"))
 public class Student {
 
+    public static final String ID_SEQUENCE = "students_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_generator")
+    @SequenceGenerator(name = "students_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -23,6 +30,10 @@ public class Student {
     @Column(name = "major")
     private String major;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public Student(String firstname, String lastname, String email, String major) {
         this.firstName = firstname;
         this.lastName = lastname;
@@ -72,4 +83,8 @@ public class Student {
     public void setMajor(String major) {
         this.major = major;
     }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
 }
@@ -0,0 +1,10 @@
+package org.upstarters.student.repository;
+
+/**
+ * Number of students that declared a given major, as returned by
+ * {@link StudentRepository#countGroupedByMajor()}.
+ */
+public interface MajorCount {
+    String getMajor();
+    Long getStudents();
+}
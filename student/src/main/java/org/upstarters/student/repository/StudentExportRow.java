@@ -0,0 +1,16 @@
+package org.upstarters.student.repository;
+
+import java.time.Instant;
+
+/**
+ * A single student as streamed by {@link StudentRepository#streamForExport(String, Instant)}.
+ * Rows are read as projections, so exporting never fills the persistence context.
+ */
+public interface StudentExportRow {
+    Long getId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    String getMajor();
+    Instant getUpdatedAt();
+}
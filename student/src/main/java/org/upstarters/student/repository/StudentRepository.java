@@ -1,12 +1,39 @@
 package org.upstarters.student.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.upstarters.student.entity.Student;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);
+    List<Student> findAllByEmailIn(Collection<String> emails);
     List<Student> findAllByMajor(String major);
+    long countByMajor(String major);
+
+    @Query("select s.major as major, count(s) as students from Student s where s.major is not null group by s.major")
+    List<MajorCount> countGroupedByMajor();
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("""
+            select s.id as id, s.firstName as firstName, s.lastName as lastName,
+                   s.email as email, s.major as major, s.updatedAt as updatedAt
+            from Student s
+            where (:major is null or s.major = :major)
+              and (:updatedSince is null or s.updatedAt >= :updatedSince)
+            order by s.id
+            """)
+    Stream<StudentExportRow> streamForExport(@Param("major") String major, @Param("updatedSince") Instant updatedSince);
 }
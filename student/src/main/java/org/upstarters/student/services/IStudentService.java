@@ -3,14 +3,22 @@ package org.upstarters.student.services;
 import org.upstarters.student.dtos.ExternalCourseDTO;
 import org.upstarters.student.dtos.StudentDTO;
 
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 public interface IStudentService {
     StudentDTO addStudent(StudentDTO studentDTO);
+    List<StudentDTO> addStudents(List<StudentDTO> studentDTOs);
     StudentDTO fetchStudent(String email);
+    List<StudentDTO> fetchStudentsByEmails(List<String> emails);
     Long countStudents();
+    Long countStudentsByMajor(String major);
+    Map<String, Long> countStudentsPerMajor();
     List<StudentDTO> fetchStudentsByMajor(String major);
     List<StudentDTO> fetchStudents();
+    long exportStudents(String major, Instant updatedSince, StudentExportFormat format, OutputStream output);
     StudentDTO updateStudent(String email, StudentDTO studentDTO);
     boolean deleteStudent(String email);
     Long fetchStudentIdFromEmail(String email);
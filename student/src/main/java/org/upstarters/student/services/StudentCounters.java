@@ -0,0 +1,114 @@
+package org.upstarters.student.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory total and per-major student counts.
+ * <p>
+ * The counts are seeded from the database, adjusted by every student write made through this
+ * instance and periodically reset from the database again. Writes made inside a transaction only
+ * adjust the counts once it commits, so a rolled back write leaves them unchanged. Reads never touch the database once
+ * the counts are seeded. Between two resets the counts may drift by writes made on another
+ * instance or racing with the reset itself; the next reset corrects them.
+ * Students without a major are only part of the total.
+ *
+ * @author Opris Liviu Vlad
+ * @see StudentServiceImplementations#reconcileCounters()
+ */
+@Component
+public class StudentCounters {
+
+    private final AtomicLong total = new AtomicLong();
+    private volatile Map<String, Long> studentsPerMajor = new ConcurrentHashMap<>();
+    private volatile boolean seeded;
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    public long countByMajor(String major) {
+        return major == null ? 0L : studentsPerMajor.getOrDefault(major, 0L);
+    }
+
+    public Map<String, Long> perMajor() {
+        return Map.copyOf(studentsPerMajor);
+    }
+
+    public void studentAdded(String major) {
+        afterCommit(() -> {
+            total.incrementAndGet();
+            adjustMajor(major, 1);
+        });
+    }
+
+    public void studentsAdded(Collection<String> majors) {
+        afterCommit(() -> {
+            total.addAndGet(majors.size());
+            majors.forEach(major -> adjustMajor(major, 1));
+        });
+    }
+
+    public void studentRemoved(String major) {
+        afterCommit(() -> {
+            total.updateAndGet(current -> Math.max(0L, current - 1));
+            adjustMajor(major, -1);
+        });
+    }
+
+    public void majorChanged(String previousMajor, String newMajor) {
+        if (previousMajor != null && previousMajor.equals(newMajor)) {
+            return;
+        }
+        afterCommit(() -> {
+            adjustMajor(previousMajor, -1);
+            adjustMajor(newMajor, 1);
+        });
+    }
+
+    /**
+     * Replaces the counts with the ones read from the database.
+     *
+     * @author Opris Liviu Vlad
+     * @param total            the number of students
+     * @param studentsPerMajor the number of students per declared major
+     */
+    public synchronized void reset(long total, Map<String, Long> studentsPerMajor) {
+        this.studentsPerMajor = new ConcurrentHashMap<>(studentsPerMajor);
+        this.total.set(total);
+        this.seeded = true;
+    }
+
+    private void adjustMajor(String major, long delta) {
+        if (major == null) {
+            return;
+        }
+        studentsPerMajor.compute(major, (key, current) -> {
+            long updated = (current == null ? 0L : current) + delta;
+            return updated > 0 ? updated : null;
+        });
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
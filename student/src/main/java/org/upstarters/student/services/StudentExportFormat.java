@@ -0,0 +1,43 @@
+package org.upstarters.student.services;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the streaming student export.
+ */
+public enum StudentExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    StudentExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format from its name, ignoring case.
+     *
+     * @author Opris Liviu Vlad
+     * @param  name the name of the format, {@code ndjson} or {@code csv}
+     * @return      the matching format
+     * @throws IllegalArgumentException if no format has the given name
+     */
+    public static StudentExportFormat fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + name);
+        }
+    }
+}
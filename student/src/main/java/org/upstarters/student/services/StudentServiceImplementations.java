@@ -1,31 +1,73 @@
 package org.upstarters.student.services;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.upstarters.student.dtos.ExternalCourseDTO;
 import org.upstarters.student.dtos.StudentDTO;
 import org.upstarters.student.entity.Student;
 import org.upstarters.student.mapper.StudentMapper;
+import org.upstarters.student.repository.MajorCount;
+import org.upstarters.student.repository.StudentExportRow;
 import org.upstarters.student.repository.StudentRepository;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class StudentServiceImplementations implements IStudentService {
 
+    static final int EMAIL_LOOKUP_CHUNK_SIZE = 1_000;
+    static final int MAX_BATCH_SIZE = 50_000;
+    static final int INSERT_CHUNK_SIZE = 1_000;
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,major,updatedAt";
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
     @Autowired
     private StudentRepository studentRepository;
 
     @Autowired
     private CoursesFeignClient coursesFeignClient;
 
+    @Autowired
+    private StudentCounters studentCounters;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Adds a new student to the system.
      * <p>
-     * This method first checks if a student with the provided email already exists
-     * in the repository. If the email is unique, the student data is mapped to an
-     * entity and persisted to the database.
+     * Email uniqueness is enforced by the unique {@code email} column rather than by a lookup
+     * before the insert, so concurrent creates with the same email cannot both succeed.
      *
      * @author Opris Liviu Vlad
      * @param  studentDTO the data transfer object containing the new student's information
@@ -35,15 +77,70 @@ public class StudentServiceImplementations implements IStudentService {
      */
     @Override
     public StudentDTO addStudent(StudentDTO studentDTO) {
-        if(studentRepository.findByEmail(studentDTO.getEmail()).isPresent()) {
-            throw new RuntimeException("Student with this email already exists!");
-        }
-
         Student student = StudentMapper.toEntity(studentDTO);
-        studentRepository.save(student);
+        try {
+            studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Student with this email already exists!", e);
+        }
+        studentCounters.studentAdded(student.getMajor());
         return StudentMapper.toDTO(student);
     }
 
+    /**
+     * Adds many students in a single transaction.
+     * <p>
+     * Intended for onboarding a whole intake at once. Ids are taken from the pooled
+     * {@value Student#ID_SEQUENCE} sequence, so the inserts are sent with JDBC batching.
+     * The students are flushed and detached every {@value #INSERT_CHUNK_SIZE} rows to keep
+     * the persistence context small. Either all students are created or none is.
+     *
+     * @author Opris Liviu Vlad
+     * @param  studentDTOs the students to create
+     * @return             the created students, in input order
+     * @throws IllegalArgumentException if more than {@value #MAX_BATCH_SIZE} students are given,
+     *                                  or an email is missing or given twice
+     * @throws RuntimeException if a student with one of the emails already exists
+     */
+    @Override
+    @Transactional
+    public List<StudentDTO> addStudents(List<StudentDTO> studentDTOs) {
+        if (studentDTOs == null || studentDTOs.isEmpty()) {
+            return List.of();
+        }
+        if (studentDTOs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " students can be created at once");
+        }
+
+        Set<String> emails = new HashSet<>();
+        for (StudentDTO studentDTO : studentDTOs) {
+            if (studentDTO == null || studentDTO.getEmail() == null) {
+                throw new IllegalArgumentException("Every student must have an email");
+            }
+            if (!emails.add(studentDTO.getEmail())) {
+                throw new IllegalArgumentException("Email " + studentDTO.getEmail() + " is given more than once");
+            }
+        }
+
+        List<StudentDTO> created = new ArrayList<>(studentDTOs.size());
+        try {
+            for (int from = 0; from < studentDTOs.size(); from += INSERT_CHUNK_SIZE) {
+                List<Student> chunk = studentDTOs.subList(from, Math.min(from + INSERT_CHUNK_SIZE, studentDTOs.size()))
+                        .stream()
+                        .map(StudentMapper::toEntity)
+                        .toList();
+                studentRepository.saveAllAndFlush(chunk);
+                entityManager.clear();
+                chunk.forEach(student -> created.add(StudentMapper.toDTO(student)));
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("One or more students with these emails already exist!", e);
+        }
+
+        studentCounters.studentsAdded(created.stream().map(StudentDTO::getMajor).toList());
+        return created;
+    }
+
     /**
      * Retrieves a specific student based on their email address.
      * <p>
@@ -62,15 +159,118 @@ public class StudentServiceImplementations implements IStudentService {
         return StudentMapper.toDTO(student);
     }
 
+    /**
+     * Retrieves the students matching a list of email addresses.
+     * <p>
+     * Lets other services resolve many students in one request instead of one
+     * {@code getByEmail} call per student. The emails are looked up with one
+     * {@code IN} query per {@value #EMAIL_LOOKUP_CHUNK_SIZE} distinct addresses.
+     * Emails without a matching student are left out of the result.
+     *
+     * @author Opris Liviu Vlad
+     * @param  emails the email addresses of the students to retrieve
+     * @return        the matching students, in the order their emails were first given
+     */
+    @Override
+    public List<StudentDTO> fetchStudentsByEmails(List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> distinctEmails = emails.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, StudentDTO> studentsByEmail = new HashMap<>();
+
+        for (int from = 0; from < distinctEmails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = distinctEmails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, distinctEmails.size()));
+            for (Student student : studentRepository.findAllByEmailIn(chunk)) {
+                studentsByEmail.put(student.getEmail(), StudentMapper.toDTO(student));
+            }
+        }
+
+        return distinctEmails.stream()
+                .map(studentsByEmail::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * Returns the total number of students currently registered in the system.
+     * <p>
+     * The count is served from the in-memory {@link StudentCounters}; the database is
+     * only queried until the counters have been seeded.
      *
      * @author Opris Liviu Vlad
      * @return the count of student entities in the database
      */
     @Override
     public Long countStudents() {
-        return studentRepository.count();
+        if (!studentCounters.isSeeded()) {
+            return studentRepository.count();
+        }
+        return studentCounters.total();
+    }
+
+    /**
+     * Returns the number of students who have declared the specified major.
+     * <p>
+     * The count is served from the in-memory {@link StudentCounters}, so callers that only
+     * need the size of a major do not have to fetch every student in it. The database is
+     * only queried until the counters have been seeded.
+     *
+     * @author Opris Liviu Vlad
+     * @param  major the major field to count students by
+     * @return       the count of students belonging to the specified major
+     */
+    @Override
+    public Long countStudentsByMajor(String major) {
+        if (!studentCounters.isSeeded()) {
+            return studentRepository.countByMajor(major);
+        }
+        return studentCounters.countByMajor(major);
+    }
+
+    /**
+     * Returns the number of students in every major.
+     * <p>
+     * Lets other services read the size of all majors at once instead of
+     * requesting each major separately. Students without a major are not counted.
+     * The counts are served from the in-memory {@link StudentCounters}; until they
+     * have been seeded, a single grouped query is run instead.
+     *
+     * @author Opris Liviu Vlad
+     * @return a map from major to the number of students who declared it
+     */
+    @Override
+    public Map<String, Long> countStudentsPerMajor() {
+        if (!studentCounters.isSeeded()) {
+            return readStudentsPerMajor();
+        }
+        return studentCounters.perMajor();
+    }
+
+    /**
+     * Seeds the student counters on startup and resets them from the database periodically,
+     * correcting any drift caused by writes made on other instances.
+     *
+     * @author Opris Liviu Vlad
+     * @see StudentCounters#reset(long, Map)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${student.counters.reconcile-interval:5m}",
+            initialDelayString = "${student.counters.reconcile-interval:5m}")
+    public void reconcileCounters() {
+        Map<String, Long> studentsPerMajor = readStudentsPerMajor();
+        long total = studentRepository.count();
+        studentCounters.reset(total, studentsPerMajor);
+    }
+
+    private Map<String, Long> readStudentsPerMajor() {
+        return studentRepository.countGroupedByMajor()
+                .stream()
+                .collect(Collectors.toMap(MajorCount::getMajor, MajorCount::getStudents));
     }
 
     /**
@@ -112,6 +312,94 @@ public class StudentServiceImplementations implements IStudentService {
                 .toList();
     }
 
+    /**
+     * Writes the students matching the optional filters to an output stream, one row at a time.
+     * <p>
+     * Rows are read through a database cursor with a fixed fetch size as read-only projections
+     * and written as soon as they are read, so memory use does not depend on the number of
+     * students. Rows are ordered by ID. NDJSON writes one JSON object per line; CSV starts with
+     * a header line. Students last changed before {@code updated_at} was tracked have no update
+     * time and are therefore left out whenever {@code updatedSince} is given.
+     *
+     * @author Opris Liviu Vlad
+     * @param  major        only export students with this major, or all students if {@code null}
+     * @param  updatedSince only export students changed at or after this instant, if not {@code null}
+     * @param  format       the output format
+     * @param  output       the stream to write to; it is flushed but not closed
+     * @return              the number of exported students
+     * @throws UncheckedIOException if writing to the output stream fails
+     * @see                 StudentRepository#streamForExport(String, Instant)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportStudents(String major, Instant updatedSince, StudentExportFormat format, OutputStream output) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long exported = 0;
+
+        try (Stream<StudentExportRow> rows = studentRepository.streamForExport(major, updatedSince)) {
+            JsonGenerator json = null;
+            if (format == StudentExportFormat.NDJSON) {
+                json = JSON_FACTORY.createGenerator(writer);
+                json.setRootValueSeparator(null);
+            } else {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<StudentExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                StudentExportRow row = iterator.next();
+                if (json != null) {
+                    writeJsonLine(json, row);
+                } else {
+                    writeCsvLine(writer, row);
+                }
+                exported++;
+            }
+
+            if (json != null) {
+                json.flush();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the student export", e);
+        }
+
+        return exported;
+    }
+
+    private static void writeJsonLine(JsonGenerator json, StudentExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", row.getId());
+        json.writeStringField("firstName", row.getFirstName());
+        json.writeStringField("lastName", row.getLastName());
+        json.writeStringField("email", row.getEmail());
+        json.writeStringField("major", row.getMajor());
+        json.writeStringField("updatedAt", row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null);
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static void writeCsvLine(Writer writer, StudentExportRow row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        for (String value : new String[]{row.getFirstName(), row.getLastName(), row.getEmail(), row.getMajor(),
+                row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null}) {
+            writer.write(',');
+            writer.write(csvValue(value));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
     /**
      * Updates the information of an existing student identified by email.
      * <p>
@@ -128,6 +416,7 @@ public class StudentServiceImplementations implements IStudentService {
     public StudentDTO updateStudent(String email, StudentDTO studentDTO) {
         Student student = studentRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Student with this email does not exist!"));
+        String previousMajor = student.getMajor();
 
         student.setFirstname(studentDTO.getFirstName());
         student.setLastname(studentDTO.getLastName());
@@ -135,6 +424,7 @@ public class StudentServiceImplementations implements IStudentService {
         student.setMajor(studentDTO.getMajor());
 
         studentRepository.save(student);
+        studentCounters.majorChanged(previousMajor, student.getMajor());
         return StudentMapper.toDTO(student);
     }
 
@@ -154,6 +444,7 @@ public class StudentServiceImplementations implements IStudentService {
                 .orElseThrow(() -> new RuntimeException("Student with this email does not exist!"));
 
         studentRepository.delete(student);
+        studentCounters.studentRemoved(student.getMajor());
         return true;
     }
 
@@ -238,8 +529,10 @@ public class StudentServiceImplementations implements IStudentService {
             throw new RuntimeException("Course with title " + courseTitle + " not found in Course Service!");
         }
 
+        String previousMajor = student.getMajor();
         student.setMajor(course.getDepartment());
         studentRepository.save(student);
+        studentCounters.majorChanged(previousMajor, student.getMajor());
 
         return StudentMapper.toDTO(student);
     }
@@ -9,14 +9,20 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.upstarters.student.controller.StudentController;
 import org.upstarters.student.dtos.ExternalCourseDTO;
 import org.upstarters.student.dtos.StudentDTO;
 import org.upstarters.student.services.IStudentService;
+import org.upstarters.student.services.StudentExportFormat;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
@@ -59,6 +65,33 @@ public class StudentControllerTest {
                 .andExpect(jsonPath("$.email").value("john.doe@example.com"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createStudents_ShouldReturnCreated() throws Exception {
+        List<StudentDTO> students = List.of(studentDTO, new StudentDTO("Jane", "Doe", "jane.doe@example.com", "Math"));
+        when(studentService.addStudents(anyList())).thenReturn(students);
+
+        mockMvc.perform(post("/students/createBatch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(students)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].email").value("jane.doe@example.com"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createStudents_InvalidBatch_ShouldReturnBadRequest() throws Exception {
+        when(studentService.addStudents(anyList())).thenThrow(new IllegalArgumentException("Email is given more than once"));
+
+        mockMvc.perform(post("/students/createBatch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(studentDTO, studentDTO))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "STUDENT")
     void fetchStudent_ShouldReturnStudent() throws Exception {
@@ -89,6 +122,72 @@ public class StudentControllerTest {
                 .andExpect(content().string("10"));
     }
 
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void countStudentsByMajor_ShouldReturnCount() throws Exception {
+        when(studentService.countStudentsByMajor("Computer Science")).thenReturn(4L);
+
+        mockMvc.perform(get("/students/countStudentsByMajor/{major}", "Computer Science"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("4"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void countStudentsPerMajor_ShouldReturnCounts() throws Exception {
+        when(studentService.countStudentsPerMajor()).thenReturn(Map.of("Computer Science", 4L));
+
+        mockMvc.perform(get("/students/countStudentsPerMajor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['Computer Science']").value(4));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void fetchStudentsByEmails_ShouldReturnList() throws Exception {
+        List<String> emails = List.of("john.doe@example.com", "missing@example.com");
+        when(studentService.fetchStudentsByEmails(emails)).thenReturn(List.of(studentDTO));
+
+        mockMvc.perform(post("/students/getByEmails")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(emails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].email").value("john.doe@example.com"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportStudents_ShouldStreamCsv() throws Exception {
+        Instant since = Instant.parse("2026-10-01T00:00:00Z");
+        when(studentService.exportStudents(eq("CS"), eq(since), eq(StudentExportFormat.CSV), any()))
+                .thenAnswer(invocation -> {
+                    OutputStream output = invocation.getArgument(3);
+                    output.write("id,firstName,lastName,email,major,updatedAt\n".getBytes(StandardCharsets.UTF_8));
+                    return 0L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/students/export")
+                        .param("major", "CS")
+                        .param("updatedSince", "2026-10-01T00:00:00Z")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(content().string("id,firstName,lastName,email,major,updatedAt\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportStudents_UnknownFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/students/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void fetchStudentByMajor_ShouldReturnList() throws Exception {
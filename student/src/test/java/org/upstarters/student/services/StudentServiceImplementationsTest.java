@@ -1,21 +1,35 @@
 package org.upstarters.student.services;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.upstarters.student.dtos.ExternalCourseDTO;
 import org.upstarters.student.dtos.StudentDTO;
 import org.upstarters.student.entity.Student;
+import org.upstarters.student.repository.MajorCount;
+import org.upstarters.student.repository.StudentExportRow;
 import org.upstarters.student.repository.StudentRepository;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,32 +41,101 @@ class StudentServiceImplementationsTest {
     @Mock
     private CoursesFeignClient coursesFeignClient;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private StudentCounters studentCounters = new StudentCounters();
+
     @InjectMocks
     private StudentServiceImplementations studentService;
 
     @Test
     void addStudent_ShouldSaveAndReturnStudent_WhenEmailDoesNotExist() {
         StudentDTO inputDto = new StudentDTO("John", "Doe", "john@test.com", "CS");
-        Student savedEntity = new Student("John", "Doe", "john@test.com", "CS");
 
-        when(studentRepository.findByEmail(inputDto.getEmail())).thenReturn(Optional.empty());
-        when(studentRepository.save(any(Student.class))).thenReturn(savedEntity);
+        when(studentRepository.saveAndFlush(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         StudentDTO result = studentService.addStudent(inputDto);
 
         assertNotNull(result);
         assertEquals(inputDto.getEmail(), result.getEmail());
-        verify(studentRepository).save(any(Student.class));
+        verify(studentRepository).saveAndFlush(any(Student.class));
+        verify(studentRepository, never()).findByEmail(anyString());
     }
 
     @Test
     void addStudent_ShouldThrowException_WhenEmailAlreadyExists() {
         StudentDTO inputDto = new StudentDTO("Jane", "Doe", "jane@test.com", "Math");
-        when(studentRepository.findByEmail(inputDto.getEmail())).thenReturn(Optional.of(new Student()));
+        when(studentRepository.saveAndFlush(any(Student.class)))
+                .thenThrow(new DataIntegrityViolationException("students_email_key"));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> studentService.addStudent(inputDto));
         assertEquals("Student with this email already exists!", exception.getMessage());
-        verify(studentRepository, never()).save(any(Student.class));
+        verify(studentCounters, never()).studentAdded(any());
+    }
+
+    @Test
+    void addStudents_ShouldSaveInChunksAndReturnStudentsInOrder() {
+        List<StudentDTO> inputDtos = new ArrayList<>();
+        for (int i = 0; i < StudentServiceImplementations.INSERT_CHUNK_SIZE + 1; i++) {
+            inputDtos.add(new StudentDTO("First" + i, "Last" + i, "student" + i + "@test.com", i % 2 == 0 ? "CS" : "Math"));
+        }
+        studentCounters.reset(0L, Map.of());
+        when(studentRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<StudentDTO> result = studentService.addStudents(inputDtos);
+
+        assertEquals(inputDtos.size(), result.size());
+        assertEquals("student0@test.com", result.get(0).getEmail());
+        assertEquals("student1000@test.com", result.get(1000).getEmail());
+        verify(studentRepository, times(2)).saveAllAndFlush(anyList());
+        verify(entityManager, times(2)).clear();
+        assertEquals(1001L, studentService.countStudents());
+        assertEquals(501L, studentService.countStudentsByMajor("CS"));
+    }
+
+    @Test
+    void addStudents_ShouldRejectRepeatedEmails() {
+        List<StudentDTO> inputDtos = List.of(
+                new StudentDTO("A", "B", "same@test.com", "CS"),
+                new StudentDTO("C", "D", "same@test.com", "Math"));
+
+        assertThrows(IllegalArgumentException.class, () -> studentService.addStudents(inputDtos));
+        verify(studentRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void addStudents_ShouldThrowException_WhenAnEmailAlreadyExists() {
+        List<StudentDTO> inputDtos = List.of(new StudentDTO("A", "B", "taken@test.com", "CS"));
+        when(studentRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("students_email_key"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> studentService.addStudents(inputDtos));
+        assertEquals("One or more students with these emails already exist!", exception.getMessage());
+        verify(studentCounters, never()).studentsAdded(any());
+    }
+
+    @Test
+    void addStudents_ShouldAdjustCounters_OnlyAfterCommit() {
+        List<StudentDTO> inputDtos = List.of(
+                new StudentDTO("A", "B", "first@test.com", "CS"),
+                new StudentDTO("C", "D", "second@test.com", "Math"));
+        studentCounters.reset(0L, Map.of());
+        when(studentRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            studentService.addStudents(inputDtos);
+
+            assertEquals(0L, studentService.countStudents());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(2L, studentService.countStudents());
+        assertEquals(1L, studentService.countStudentsByMajor("Math"));
     }
 
     @Test
@@ -84,6 +167,85 @@ class StudentServiceImplementationsTest {
         assertEquals(5L, count);
     }
 
+    @Test
+    void countStudentsByMajor_ShouldReturnCount() {
+        when(studentRepository.countByMajor("CS")).thenReturn(3L);
+
+        Long count = studentService.countStudentsByMajor("CS");
+
+        assertEquals(3L, count);
+        verify(studentRepository, never()).findAllByMajor(anyString());
+    }
+
+    @Test
+    void countStudents_ShouldBeServedFromCounters_AfterReconcile() {
+        when(studentRepository.count()).thenReturn(4L);
+        when(studentRepository.countGroupedByMajor()).thenReturn(List.of(majorCount("CS", 3L), majorCount("Math", 1L)));
+
+        studentService.reconcileCounters();
+
+        assertEquals(4L, studentService.countStudents());
+        assertEquals(3L, studentService.countStudentsByMajor("CS"));
+        assertEquals(0L, studentService.countStudentsByMajor("Biology"));
+        assertEquals(Map.of("CS", 3L, "Math", 1L), studentService.countStudentsPerMajor());
+        verify(studentRepository, times(1)).count();
+        verify(studentRepository, never()).countByMajor(anyString());
+    }
+
+    @Test
+    void counters_ShouldFollowStudentWrites() {
+        studentCounters.reset(1L, Map.of("Math", 1L));
+        Student existing = new Student("A", "B", "a@test.com", "Math");
+
+        when(studentRepository.saveAndFlush(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        studentService.addStudent(new StudentDTO("N", "S", "new@test.com", "CS"));
+
+        when(studentRepository.findByEmail("a@test.com")).thenReturn(Optional.of(existing));
+        studentService.updateStudent("a@test.com", new StudentDTO("A", "B", "a@test.com", "CS"));
+
+        assertEquals(2L, studentService.countStudents());
+        assertEquals(Map.of("CS", 2L), studentService.countStudentsPerMajor());
+
+        studentService.deleteStudent("a@test.com");
+
+        assertEquals(1L, studentService.countStudents());
+        assertEquals(1L, studentService.countStudentsByMajor("CS"));
+        verify(studentRepository, never()).count();
+    }
+
+    @Test
+    void countStudentsPerMajor_ShouldReturnGroupedCounts() {
+        when(studentRepository.countGroupedByMajor()).thenReturn(List.of(majorCount("CS", 3L), majorCount("Math", 1L)));
+
+        Map<String, Long> counts = studentService.countStudentsPerMajor();
+
+        assertEquals(Map.of("CS", 3L, "Math", 1L), counts);
+    }
+
+    @Test
+    void fetchStudentsByEmails_ShouldReturnMatchesInRequestOrder() {
+        when(studentRepository.findAllByEmailIn(List.of("c@d.com", "missing@test.com", "a@b.com")))
+                .thenReturn(List.of(new Student("A", "B", "a@b.com", "CS"), new Student("C", "D", "c@d.com", "Math")));
+
+        List<StudentDTO> result = studentService.fetchStudentsByEmails(
+                Arrays.asList("c@d.com", "missing@test.com", null, "a@b.com", "c@d.com"));
+
+        assertEquals(List.of("c@d.com", "a@b.com"), result.stream().map(StudentDTO::getEmail).toList());
+    }
+
+    @Test
+    void fetchStudentsByEmails_ShouldQueryInChunks() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < StudentServiceImplementations.EMAIL_LOOKUP_CHUNK_SIZE + 1; i++) {
+            emails.add("student" + i + "@test.com");
+        }
+        when(studentRepository.findAllByEmailIn(anyList())).thenReturn(List.of());
+
+        studentService.fetchStudentsByEmails(emails);
+
+        verify(studentRepository, times(2)).findAllByEmailIn(anyList());
+    }
+
     @Test
     void fetchStudentsByMajor_ShouldReturnList() {
         String major = "CS";
@@ -206,4 +368,85 @@ class StudentServiceImplementationsTest {
                 () -> studentService.updateMajorFromCourse(email, courseTitle));
         assertTrue(ex.getMessage().contains("Course with title " + courseTitle + " not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportStudents_ShouldWriteOneJsonObjectPerLine() {
+        Instant updatedAt = Instant.parse("2026-10-01T08:00:00Z");
+        when(studentRepository.streamForExport("CS", null)).thenReturn(Stream.of(
+                exportRow(1L, "John", "Doe", "john@test.com", "CS", updatedAt),
+                exportRow(2L, "Jane", "Roe", "jane@test.com", "CS", null)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = studentService.exportStudents("CS", null, StudentExportFormat.NDJSON, output);
+
+        assertEquals(2, exported);
+        assertEquals("""
+                {"id":1,"firstName":"John","lastName":"Doe","email":"john@test.com","major":"CS","updatedAt":"2026-10-01T08:00:00Z"}
+                {"id":2,"firstName":"Jane","lastName":"Roe","email":"jane@test.com","major":"CS","updatedAt":null}
+                """, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportStudents_ShouldWriteCsvWithHeaderAndQuoting() {
+        Instant since = Instant.parse("2026-10-01T00:00:00Z");
+        when(studentRepository.streamForExport(null, since)).thenReturn(Stream.of(
+                exportRow(3L, "Ann, Jr.", "O\"Neil", "ann@test.com", null, since)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        studentService.exportStudents(null, since, StudentExportFormat.CSV, output);
+
+        assertEquals("""
+                id,firstName,lastName,email,major,updatedAt
+                3,"Ann, Jr.","O""Neil",ann@test.com,,2026-10-01T00:00:00Z
+                """, output.toString(StandardCharsets.UTF_8));
+    }
+
+    private static StudentExportRow exportRow(Long id, String firstName, String lastName, String email,
+                                              String major, Instant updatedAt) {
+        return new StudentExportRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getMajor() {
+                return major;
+            }
+
+            @Override
+            public Instant getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+    private static MajorCount majorCount(String major, Long students) {
+        return new MajorCount() {
+            @Override
+            public String getMajor() {
+                return major;
+            }
+
+            @Override
+            public Long getStudents() {
+                return students;
+            }
+        };
+    }
+}